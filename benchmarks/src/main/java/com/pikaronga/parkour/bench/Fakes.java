@@ -0,0 +1,52 @@
+package com.pikaronga.parkour.bench;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * Minimal World/Block stand-ins so the plugin's lookup code can run without a server.
+ * Only the handful of methods the benchmarked paths touch are answered; anything else throws.
+ */
+final class Fakes {
+
+    private Fakes() {
+    }
+
+    static World world(String name) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUID": return uid;
+                case "getName": return name;
+                case "hashCode": return System.identityHashCode(proxy);
+                case "equals": return proxy == args[0];
+                case "toString": return "FakeWorld{" + name + "}";
+                default: throw new UnsupportedOperationException("FakeWorld." + method.getName());
+            }
+        });
+    }
+
+    static Block block(World world, int x, int y, int z) {
+        return (Block) Proxy.newProxyInstance(Block.class.getClassLoader(), new Class<?>[]{Block.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getWorld": return world;
+                case "getX": return x;
+                case "getY": return y;
+                case "getZ": return z;
+                case "getLocation": return args == null || args.length == 0 ? new Location(world, x, y, z) : null;
+                case "hashCode": return System.identityHashCode(proxy);
+                case "equals": return proxy == args[0];
+                case "toString": return "FakeBlock{" + x + "," + y + "," + z + "}";
+                default: throw new UnsupportedOperationException("FakeBlock." + method.getName());
+            }
+        });
+    }
+
+    static Location location(World world, int x, int y, int z) {
+        return new Location(world, x, y, z);
+    }
+}
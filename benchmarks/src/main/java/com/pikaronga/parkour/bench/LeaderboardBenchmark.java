@@ -0,0 +1,77 @@
+package com.pikaronga.parkour.bench;
+
+import com.pikaronga.parkour.course.ParkourCourse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leaderboard reads (top-N for holograms) and writes (a finished run) on a course with many players.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    @Param({"1000", "100000"})
+    public int players;
+
+    private ParkourCourse course;
+    private UUID[] playerIds;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new SplittableRandom(42);
+        course = new ParkourCourse("bench");
+        playerIds = new UUID[players];
+        for (int i = 0; i < players; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            playerIds[i] = id;
+            // Up to three stored runs per player, between 20s and 5min
+            int runs = 1 + random.nextInt(3);
+            for (int r = 0; r < runs; r++) {
+                course.addTime(id, randomTime());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Map.Entry<UUID, Long>> getTopTimes10() {
+        return course.getTopTimes(10);
+    }
+
+    @Benchmark
+    public int getRankRandomPlayer() {
+        return course.getRank(playerIds[random.nextInt(playerIds.length)]);
+    }
+
+    @Benchmark
+    public long addTimeExistingPlayer() {
+        UUID id = playerIds[random.nextInt(playerIds.length)];
+        course.addTime(id, randomTime());
+        return course.getBestTime(id);
+    }
+
+    private long randomTime() {
+        return 20_000_000_000L + random.nextLong(280_000_000_000L);
+    }
+}
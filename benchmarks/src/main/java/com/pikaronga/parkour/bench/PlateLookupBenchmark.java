@@ -0,0 +1,93 @@
+package com.pikaronga.parkour.bench;
+
+import com.pikaronga.parkour.course.Checkpoint;
+import com.pikaronga.parkour.course.ParkourCourse;
+import com.pikaronga.parkour.util.ParkourManager;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plate resolution as done by the move listener: start/checkpoint hits on the last-registered course
+ * (worst case for any linear scan) and a miss on a block with no plate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlateLookupBenchmark {
+
+    private static final int CHECKPOINTS_PER_COURSE = 5;
+
+    @Param({"10", "100", "1000"})
+    public int courses;
+
+    private ParkourManager manager;
+    private Block startHit;
+    private Block checkpointHit;
+    private Block miss;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        World world = Fakes.world("bench_world");
+        List<ParkourCourse> list = new ArrayList<>(courses);
+        for (int i = 0; i < courses; i++) {
+            // Courses laid out on a grid 64 blocks apart, like player plots
+            int baseX = (i % 32) * 64;
+            int baseZ = (i / 32) * 64;
+            ParkourCourse course = new ParkourCourse("course" + i);
+            course.setStartPlate(Fakes.location(world, baseX, 64, baseZ));
+            for (int c = 1; c <= CHECKPOINTS_PER_COURSE; c++) {
+                course.addCheckpoint(new Checkpoint(Fakes.location(world, baseX + c * 4, 64 + c, baseZ), Fakes.location(world, baseX + c * 4, 65 + c, baseZ)));
+            }
+            course.setFinishPlate(Fakes.location(world, baseX + 32, 70, baseZ));
+            list.add(course);
+        }
+        manager = new ParkourManager(list);
+
+        int last = courses - 1;
+        int lastX = (last % 32) * 64;
+        int lastZ = (last / 32) * 64;
+        startHit = Fakes.block(world, lastX, 64, lastZ);
+        checkpointHit = Fakes.block(world, lastX + CHECKPOINTS_PER_COURSE * 4, 64 + CHECKPOINTS_PER_COURSE, lastZ);
+        miss = Fakes.block(world, lastX + 1, 64, lastZ + 1);
+    }
+
+    @Benchmark
+    public Optional<ParkourCourse> findCourseByStartHit() {
+        return manager.findCourseByStart(startHit);
+    }
+
+    @Benchmark
+    public Optional<ParkourCourse> findCourseByStartMiss() {
+        return manager.findCourseByStart(miss);
+    }
+
+    @Benchmark
+    public Optional<ParkourManager.CheckpointMatch> findCheckpointHit() {
+        return manager.findCheckpoint(checkpointHit);
+    }
+
+    @Benchmark
+    public Optional<ParkourManager.CheckpointMatch> findCheckpointMiss() {
+        return manager.findCheckpoint(miss);
+    }
+}
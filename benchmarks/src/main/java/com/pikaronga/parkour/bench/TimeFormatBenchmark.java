@@ -0,0 +1,40 @@
+package com.pikaronga.parkour.bench;
+
+import com.pikaronga.parkour.util.TimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duration formatting, called once per leaderboard line and per personal-best refresh.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeFormatBenchmark {
+
+    // 1min 55.5s, and a value that rounds up into the next second
+    public long typical = 115_500_000_000L;
+    public long roundingEdge = 59_999_600_000L;
+
+    @Benchmark
+    public String formatTypical() {
+        return TimeUtil.formatDuration(typical);
+    }
+
+    @Benchmark
+    public String formatRoundingEdge() {
+        return TimeUtil.formatDuration(roundingEdge);
+    }
+}
@@ -34,6 +34,7 @@ public class ParkourPlugin extends JavaPlugin {
     private GuiConfig guiConfig;
     private PlayerParkourManager playerParkourManager;
     private ParkourCacheManager cacheManager;
+    private com.pikaronga.parkour.player.PlayerNameService nameService;
     private NamespacedKey hologramKey;
 
     @Override
@@ -45,7 +46,9 @@ public class ParkourPlugin extends JavaPlugin {
         this.storage = new SqliteParkourStorage(this, db);
         try { this.storage.cleanupInvalidNumericColumns(); } catch (Throwable ignored) {}
         this.parkourManager = new ParkourManager(java.util.Collections.emptyList());
+        this.parkourManager.setChangeListener(storage::courseChanged);
         this.cacheManager = new ParkourCacheManager(this, storage);
+        this.nameService = new com.pikaronga.parkour.player.PlayerNameService(this, configManager.nameCacheSize(), configManager.nameCacheTtlMs());
         this.messageManager = new MessageManager(this);
         this.guiConfig = new GuiConfig(this);
         this.hologramTextProvider = new HologramTextProvider(this);
@@ -55,18 +58,20 @@ public class ParkourPlugin extends JavaPlugin {
 
         PlayerParkourManager.ensureWorld(this, configManager);
 
-        // Safety sweep: purge stray hologram armor stands with tag
-        try {
-            Bukkit.getWorlds().forEach(w -> w.getEntitiesByClass(ArmorStand.class).forEach(as -> {
-                try {
-                    boolean legacyTag = as.getScoreboardTags().contains("parkour_holo");
-                    boolean keyed = hologramKey != null && as.getPersistentDataContainer().has(hologramKey, PersistentDataType.STRING);
-                    if (legacyTag || keyed) {
-                        as.remove();
-                    }
-                } catch (Throwable ignored) {}
-            }));
-        } catch (Throwable ignored) {}
+        // Safety sweep: purge stray hologram armor stands with tag (display holograms are never persisted)
+        if (configManager.hologramBackend().forceLoadsChunks()) {
+            try {
+                Bukkit.getWorlds().forEach(w -> w.getEntitiesByClass(ArmorStand.class).forEach(as -> {
+                    try {
+                        boolean legacyTag = as.getScoreboardTags().contains("parkour_holo");
+                        boolean keyed = hologramKey != null && as.getPersistentDataContainer().has(hologramKey, PersistentDataType.STRING);
+                        if (legacyTag || keyed) {
+                            as.remove();
+                        }
+                    } catch (Throwable ignored) {}
+                }));
+            } catch (Throwable ignored) {}
+        }
 
         ParkourCommand command = new ParkourCommand(this, parkourManager, hologramManager, messageManager);
         if (getCommand("parkour") != null) {
@@ -75,6 +80,7 @@ public class ParkourPlugin extends JavaPlugin {
         }
 
         Bukkit.getPluginManager().registerEvents(hologramManager, this);
+        Bukkit.getPluginManager().registerEvents(nameService, this);
         Bukkit.getPluginManager().registerEvents(new GUIListener(this), this);
         Bukkit.getPluginManager().registerEvents(new com.pikaronga.parkour.gui.GuiProtectionListener(), this);
         Bukkit.getPluginManager().registerEvents(new com.pikaronga.parkour.gui.SetupInputListener(this), this);
@@ -98,29 +104,8 @@ public class ParkourPlugin extends JavaPlugin {
 
         Bukkit.getScheduler().runTaskLater(this, () -> {
             getLogger().info("Loading parkour data after world bootstrap...");
-            java.util.List<com.pikaronga.parkour.course.ParkourCourse> courses = storage.loadCourses();
-            parkourManager.replaceCourses(courses);
-            if (playerParkourManager != null) {
-                playerParkourManager.refreshPlotUsage();
-                if (configManager.outlineEnabled() && !configManager.isVoidWorld()) {
-                    playerParkourManager.redrawAllOutlines();
-                }
-            }
-            // Schedule hologram spawning later to ensure worlds/chunks are fully registered and ticking
-            // (player world creation may schedule its own chunk loads at 40L)
-            Bukkit.getScheduler().runTaskLater(this, () -> hologramManager.spawnConfiguredHolograms(), 80L);
-            getLogger().info("Loaded " + parkourManager.getCourses().size() + " parkour course(s).");
-            // Log counts from SQLite
-            Bukkit.getScheduler().runTaskAsynchronously(this, () -> {
-                long times = 0L, stats = 0L, runCounters = 0L;
-                try (java.sql.Connection conn = new DatabaseManager(this).getConnection();
-                     java.sql.Statement st = conn.createStatement()) {
-                    try (java.sql.ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM times")) { if (rs.next()) times = rs.getLong(1); }
-                    try (java.sql.ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM parkour_stats")) { if (rs.next()) stats = rs.getLong(1); }
-                    try (java.sql.ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM parkour_runs")) { if (rs.next()) runCounters = rs.getLong(1); }
-                } catch (Exception ignored) {}
-                getLogger().info("[Parkour] Loaded " + times + " times, " + runCounters + " run counters, and " + stats + " player stats from SQLite.");
-            });
+            // Read off the main thread; courses are registered a few per tick as they arrive
+            storage.loadCoursesAsync(configManager.courseLoadPerTick(), parkourManager::addCourse, loaded -> onCoursesLoaded());
         }, 20L);
 
         try { storage.startStatsTasks(); } catch (Throwable ignored) {}
@@ -136,6 +121,30 @@ public class ParkourPlugin extends JavaPlugin {
         }
     }
 
+    private void onCoursesLoaded() {
+        if (playerParkourManager != null) {
+            playerParkourManager.refreshPlotUsage();
+            if (configManager.outlineEnabled() && !configManager.isVoidWorld()) {
+                playerParkourManager.redrawAllOutlines();
+            }
+        }
+        // Schedule hologram spawning later to ensure worlds/chunks are fully registered and ticking
+        // (player world creation may schedule its own chunk loads at 40L)
+        Bukkit.getScheduler().runTaskLater(this, () -> hologramManager.spawnConfiguredHolograms(), 80L);
+        getLogger().info("Loaded " + parkourManager.getCourses().size() + " parkour course(s).");
+        // Log counts from SQLite
+        Bukkit.getScheduler().runTaskAsynchronously(this, () -> {
+            long times = 0L, stats = 0L, runCounters = 0L;
+            try (java.sql.Connection conn = storage.getDatabase().getReadConnection();
+                 java.sql.Statement st = conn.createStatement()) {
+                try (java.sql.ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM times")) { if (rs.next()) times = rs.getLong(1); }
+                try (java.sql.ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM parkour_stats")) { if (rs.next()) stats = rs.getLong(1); }
+                try (java.sql.ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM parkour_runs")) { if (rs.next()) runCounters = rs.getLong(1); }
+            } catch (Exception ignored) {}
+            getLogger().info("[Parkour] Loaded " + times + " times, " + runCounters + " run counters, and " + stats + " player stats from SQLite.");
+        });
+    }
+
     @Override
     public void onDisable() {
         if (hologramManager != null) {
@@ -153,7 +162,9 @@ public class ParkourPlugin extends JavaPlugin {
             }
         } catch (Throwable ignored) {}
         if (parkourManager != null && storage != null) {
-            storage.saveCourses(parkourManager.getCourses());
+            // Course changes are already queued; only what is in flight needs to land
+            try { storage.drainCourseWrites(); } catch (Throwable ignored) {}
+            try { if (cacheManager != null) cacheManager.flushPendingBests(); } catch (Throwable ignored) {}
             try { storage.shutdown(); } catch (Throwable ignored) {}
         }
     }
@@ -193,4 +204,6 @@ public class ParkourPlugin extends JavaPlugin {
     public GuiConfig getGuiConfig() { return guiConfig; }
 
     public ParkourCacheManager getCacheManager() { return cacheManager; }
+
+    public com.pikaronga.parkour.player.PlayerNameService getNameService() { return nameService; }
 }
@@ -5,78 +5,164 @@ import com.pikaronga.parkour.course.ParkourCourse;
 import com.pikaronga.parkour.storage.SqliteParkourStorage;
 import org.bukkit.Bukkit;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Pages course details (times, per-player ratings and run counts) in on first touch and out again under a
+ * segmented-LRU policy bounded by the number of resident entries. The course descriptor itself is always resident.
+ * Courses with active sessions, a pending load or spawned holograms are pinned and never evicted.
+ */
 public class ParkourCacheManager {
     private static class Cached {
         final ParkourCourse course;
         final AtomicInteger active = new AtomicInteger(0);
-        final AtomicBoolean dirty = new AtomicBoolean(false);
         final AtomicBoolean loading = new AtomicBoolean(false);
+        // Actions waiting for the details to be paged in (main thread only)
+        final List<Runnable> waiters = new ArrayList<>();
         volatile long lastAccess = System.currentTimeMillis();
+        volatile long loadStartedNanos;
+        // Guarded by the segment lock
+        boolean inProtected;
         Cached(ParkourCourse c) { this.course = c; }
     }
 
+    /**
+     * Point-in-time cache counters.
+     */
+    public record Stats(long hits, long misses, long loads, long loadFailures, long evictions, double averageLoadMillis,
+                        int residentCourses, long residentEntries, long maxEntries) {
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 1.0D : (double) hits / total;
+        }
+    }
+
     private final ParkourPlugin plugin;
     private final SqliteParkourStorage storage;
     private final Map<String, Cached> cache = new ConcurrentHashMap<>();
+    // Improved bests not yet written, per course name; independent of residency so eviction never loses them
+    private final Map<String, ConcurrentHashMap<UUID, Long>> pendingBests = new ConcurrentHashMap<>();
     private final long unloadMillis = 5 * 60 * 1000L;
+    // Heap usage above which every course not pinned is paged out on the next sweep
+    private final double memoryPressureRatio;
+    private final long maxEntries;
+    // Share of maxEntries the protected segment may hold before its LRU entries are demoted to probation
+    private final long protectedMaxEntries;
+
+    // Segmented LRU (insertion-ordered, re-inserted on access): first touch lands in probation, a second one promotes
+    private final Object segmentLock = new Object();
+    private final LinkedHashMap<String, Cached> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Cached> protectedSegment = new LinkedHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
 
     public ParkourCacheManager(ParkourPlugin plugin, SqliteParkourStorage storage) {
         this.plugin = plugin;
         this.storage = storage;
+        double ratio = 0.85D;
+        long max = 250_000L;
+        try {
+            ratio = plugin.getConfigManager().cacheMemoryPressureRatio();
+            max = plugin.getConfigManager().cacheMaxEntries();
+        } catch (Throwable ignored) {}
+        this.memoryPressureRatio = ratio;
+        this.maxEntries = max;
+        this.protectedMaxEntries = (long) (max * 0.8D);
         startTasks();
     }
 
     private void startTasks() {
-        // Periodic flush + unload check (async)
+        // Periodic flush (async), then the eviction sweep on main where hologram state and course details live
         Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-            long now = System.currentTimeMillis();
-            for (Cached c : cache.values()) {
-                if (c.dirty.get()) {
-                    storage.saveTimesAsync(c.course);
-                    c.dirty.set(false);
-                }
-                if (c.active.get() <= 0 && now - c.lastAccess > unloadMillis) {
-                    // unload times to free memory
-                    c.course.getTimes().clear();
-                    cache.remove(c.course.getName().toLowerCase());
-                }
-            }
+            flushPendingBests();
+            Bukkit.getScheduler().runTask(plugin, this::sweep);
         }, 20L * 60, 20L * 60); // every 60s
     }
 
-    public void ensureTimesLoaded(ParkourCourse course) {
-        String key = course.getName().toLowerCase();
-        Cached c = cache.computeIfAbsent(key, k -> new Cached(course));
-        c.lastAccess = System.currentTimeMillis();
-        if (course.getTimes().isEmpty() && c.loading.compareAndSet(false, true)) {
-            storage.loadTimesForCourseAsync(course.getName(), (crs, ok) -> {
-                c.loading.set(false);
-                if (ok && crs != null) {
-                    try { plugin.getHologramManager().updateHolograms(crs); } catch (Throwable ignored) {}
-                }
-            });
+    /**
+     * Writes every best improved since the last flush in one transaction. An entry is cleared only after the
+     * commit, and only if no newer best replaced it meanwhile. Blocking; call off the main thread (or on disable).
+     */
+    public void flushPendingBests() {
+        Map<String, Map<UUID, Long>> batch = new java.util.HashMap<>();
+        for (Map.Entry<String, ConcurrentHashMap<UUID, Long>> e : pendingBests.entrySet()) {
+            if (!e.getValue().isEmpty()) batch.put(e.getKey(), new java.util.HashMap<>(e.getValue()));
+        }
+        if (batch.isEmpty()) return;
+        try {
+            storage.saveBestTimes(batch);
+        } catch (Exception ex) {
+            plugin.getLogger().warning("Failed to save best times, will retry: " + ex.getMessage());
+            return;
+        }
+        for (Map.Entry<String, Map<UUID, Long>> e : batch.entrySet()) {
+            ConcurrentHashMap<UUID, Long> pending = pendingBests.get(e.getKey());
+            if (pending == null) continue;
+            // Conditional remove: a faster run recorded during the write stays pending
+            e.getValue().forEach((player, nanos) -> pending.remove(player, nanos));
+        }
+    }
+
+    public int getPendingBestCount() {
+        int n = 0;
+        for (ConcurrentHashMap<UUID, Long> pending : pendingBests.values()) n += pending.size();
+        return n;
+    }
+
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        boolean pressure = underMemoryPressure();
+        List<Cached> victims = new ArrayList<>();
+        for (Cached c : cache.values()) {
+            if ((pressure || now - c.lastAccess > unloadMillis) && !isPinned(c)) {
+                victims.add(c);
+            }
         }
+        victims.forEach(this::evict);
+        enforceLimit();
+    }
+
+    private boolean underMemoryPressure() {
+        Runtime rt = Runtime.getRuntime();
+        long used = rt.totalMemory() - rt.freeMemory();
+        return used > rt.maxMemory() * memoryPressureRatio;
+    }
+
+    /**
+     * Touches the course and pages its details in if they are not resident.
+     */
+    public void ensureLoaded(ParkourCourse course) {
+        touch(course);
+    }
+
+    /**
+     * Runs {@code action} on the main thread once the course's details are in memory (immediately if they already are).
+     */
+    public void withLoaded(ParkourCourse course, Runnable action) {
+        Cached c = touch(course);
+        if (course.isDetailsLoaded()) {
+            action.run();
+            return;
+        }
+        c.waiters.add(action);
     }
 
     public void startUsing(ParkourCourse course) {
-        String key = course.getName().toLowerCase();
-        Cached c = cache.computeIfAbsent(key, k -> new Cached(course));
+        Cached c = touch(course);
         c.active.incrementAndGet();
-        c.lastAccess = System.currentTimeMillis();
-        if (course.getTimes().isEmpty() && c.loading.compareAndSet(false, true)) {
-            storage.loadTimesForCourseAsync(course.getName(), (crs, ok) -> {
-                c.loading.set(false);
-                if (ok && crs != null) {
-                    try { plugin.getHologramManager().updateHolograms(crs); } catch (Throwable ignored) {}
-                }
-            });
-        }
     }
 
     public void stopUsing(ParkourCourse course) {
@@ -88,15 +174,150 @@ public class ParkourCacheManager {
         }
     }
 
-    public void markDirty(ParkourCourse course) {
+    public void recordTime(ParkourCourse course, UUID playerId, long nanos) {
+        long before = course.getBestTime(playerId);
+        course.addTime(playerId, nanos);
+        entry(course).lastAccess = System.currentTimeMillis();
+        long after = course.getBestTime(playerId);
+        if (after != before) {
+            // Only the improved best is a delta; slower runs never change the stored row
+            pendingBests.computeIfAbsent(course.getName(), k -> new ConcurrentHashMap<>()).merge(playerId, after, Math::min);
+            try { plugin.getHologramManager().personalBestChanged(course, playerId); } catch (Throwable ignored) {}
+        }
+    }
+
+    public Stats getStats() {
+        long loaded = loads.get();
+        double avgMs = loaded == 0 ? 0.0D : loadNanos.get() / 1_000_000.0D / loaded;
+        int courses = 0;
+        long entries = 0;
+        for (Cached c : cache.values()) {
+            if (!c.course.isDetailsLoaded()) continue;
+            courses++;
+            entries += c.course.getResidentEntryCount();
+        }
+        return new Stats(hits.get(), misses.get(), loaded, loadFailures.get(), evictions.get(), avgMs, courses, entries, maxEntries);
+    }
+
+    private Cached touch(ParkourCourse course) {
+        Cached c = entry(course);
+        c.lastAccess = System.currentTimeMillis();
+        if (course.isDetailsLoaded()) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            if (c.loading.compareAndSet(false, true)) {
+                load(c);
+            }
+        }
+        return c;
+    }
+
+    private void load(Cached c) {
+        ParkourCourse course = c.course;
+        c.loadStartedNanos = System.nanoTime();
+        storage.loadCourseDetailsAsync(course.getName(), (crs, ok) -> {
+            c.loading.set(false);
+            List<Runnable> waiting = new ArrayList<>(c.waiters);
+            c.waiters.clear();
+            if (ok && crs != null) {
+                loads.incrementAndGet();
+                loadNanos.addAndGet(System.nanoTime() - c.loadStartedNanos);
+                try { plugin.getHologramManager().updateHolograms(crs); } catch (Throwable ignored) {}
+                try { plugin.getHologramManager().personalBestsInvalidated(crs); } catch (Throwable ignored) {}
+                for (Runnable r : waiting) {
+                    try { r.run(); } catch (Throwable t) { plugin.getLogger().warning("Deferred course action failed: " + t.getMessage()); }
+                }
+                enforceLimit();
+            } else {
+                loadFailures.incrementAndGet();
+                if (!waiting.isEmpty()) {
+                    plugin.getLogger().warning("Could not load details for course " + course.getName() + "; dropped " + waiting.size() + " pending action(s).");
+                }
+            }
+        });
+    }
+
+    // Registers the course (if new) and records the access in the segmented LRU
+    private Cached entry(ParkourCourse course) {
         String key = course.getName().toLowerCase();
         Cached c = cache.computeIfAbsent(key, k -> new Cached(course));
-        c.dirty.set(true);
-        c.lastAccess = System.currentTimeMillis();
+        synchronized (segmentLock) {
+            if (c.inProtected) {
+                protectedSegment.remove(key);
+                protectedSegment.put(key, c);
+            } else if (probation.remove(key) != null) {
+                c.inProtected = true;
+                protectedSegment.put(key, c);
+                demoteProtectedOverflow();
+            } else {
+                probation.put(key, c);
+            }
+        }
+        return c;
     }
 
-    public void recordTime(ParkourCourse course, UUID playerId, long nanos) {
-        course.addTime(playerId, nanos);
-        markDirty(course);
+    // Caller holds segmentLock
+    private void demoteProtectedOverflow() {
+        long weight = 0;
+        for (Cached c : protectedSegment.values()) weight += weightOf(c);
+        java.util.Iterator<Map.Entry<String, Cached>> it = protectedSegment.entrySet().iterator();
+        while (weight > protectedMaxEntries && it.hasNext()) {
+            Map.Entry<String, Cached> eldest = it.next();
+            it.remove();
+            eldest.getValue().inProtected = false;
+            probation.put(eldest.getKey(), eldest.getValue());
+            weight -= weightOf(eldest.getValue());
+        }
+    }
+
+    /**
+     * Evicts least recently used, unpinned courses (probation first, then protected) until the resident
+     * entry count is back under the limit. Main thread.
+     */
+    private void enforceLimit() {
+        long resident = 0;
+        for (Cached c : cache.values()) resident += weightOf(c);
+        if (resident <= maxEntries) return;
+        List<Cached> victims = new ArrayList<>();
+        synchronized (segmentLock) {
+            for (LinkedHashMap<String, Cached> segment : List.of(probation, protectedSegment)) {
+                for (Cached c : segment.values()) {
+                    if (resident <= maxEntries) break;
+                    if (weightOf(c) == 0 || isPinned(c)) continue;
+                    victims.add(c);
+                    resident -= weightOf(c);
+                }
+            }
+        }
+        victims.forEach(this::evict);
+    }
+
+    private boolean isPinned(Cached c) {
+        if (c.active.get() > 0 || c.loading.get()) return true;
+        // Ratings not yet captured by the course writer would be lost with the details
+        if (c.course.hasUnsavedChanges()) return true;
+        // ... or captured but not yet written: a failed write is re-captured from the loaded course
+        try { if (plugin.getStorage().hasUnconfirmedWrites(c.course)) return true; } catch (Throwable ignored) {}
+        try { return plugin.getHologramManager().hasSpawnedHolograms(c.course); } catch (Throwable ignored) {}
+        return false;
+    }
+
+    private void evict(Cached c) {
+        String key = c.course.getName().toLowerCase();
+        if (!cache.remove(key, c)) return;
+        synchronized (segmentLock) {
+            probation.remove(key);
+            protectedSegment.remove(key);
+        }
+        if (c.course.isDetailsLoaded()) evictions.incrementAndGet();
+        // Unsaved bests live in pendingBests, so dropping the details here loses nothing
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (!cache.containsKey(key)) c.course.unloadDetails();
+        });
+    }
+
+    private static long weightOf(Cached c) {
+        return c.course.isDetailsLoaded() ? Math.max(1, c.course.getResidentEntryCount()) : 0;
     }
 }
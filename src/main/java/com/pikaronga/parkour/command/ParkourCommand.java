@@ -46,7 +46,6 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
             return true;
         }
         String sub = args[0].toLowerCase();
-        boolean success = true;
         switch (sub) {
             // Admin subcommands
             case "setstart", "setend", "setspawn", "setcheckpoint", "setholotop10", "setholobest", "setmaxfall", "deletetime", "deletecourse", "renamecourse", "holocleanup", "listdbcourses" -> {
@@ -108,19 +107,31 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                         player.sendMessage(messageManager.getMessage("rename-exists", "&cA parkour with that name already exists."));
                         return true;
                     }
-                    ParkourCourse dst = com.pikaronga.parkour.util.RenameUtil.cloneWithName(src, newName);
-                    // Swap in memory and holograms
-                    plugin.getHologramManager().removeCourseHolograms(src);
-                    parkourManager.removeCourse(src.getName());
-                    parkourManager.getCourses().put(dst.getName().toLowerCase(), dst);
-                    plugin.getHologramManager().createHolograms(dst);
-                    // Persist new row and times, then migrate counters and delete old row
-                    try { plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses()); } catch (Throwable ignored) {}
-                    try { plugin.getStorage().saveTimesAsync(dst); } catch (Throwable ignored) {}
-                    plugin.getStorage().migrateCourseRunCountersAsync(oldName, newName, ok -> {
-                        plugin.getStorage().deleteCourseByNameAsync(oldName, delOk -> {
-                            player.sendMessage(messageManager.getMessage("admin-rename-success", "&aRenamed course &f{old}&a to &f{new}&a.", java.util.Map.of("old", oldName, "new", newName)));
-                            plugin.getLogger().info("[Parkour] Admin " + player.getName() + " renamed course '" + oldName + "' -> '" + newName + "'.");
+                    // Times, ratings and run counts must be in memory to be carried over
+                    plugin.getCacheManager().withLoaded(src, () -> {
+                        if (parkourManager.getCourse(newName) != null) {
+                            player.sendMessage(messageManager.getMessage("rename-exists", "&cA parkour with that name already exists."));
+                            return;
+                        }
+                        ParkourCourse dst = com.pikaronga.parkour.util.RenameUtil.cloneWithName(src, newName);
+                        // Swap in memory and holograms
+                        plugin.getHologramManager().removeCourseHolograms(src);
+                        parkourManager.removeCourse(src.getName());
+                        parkourManager.addCourse(dst);
+                        plugin.getHologramManager().createHolograms(dst);
+                        // Persist new row and times, then migrate counters and delete old row
+                        try { plugin.getStorage().flushCourseChanges(); } catch (Throwable ignored) {}
+                        try { plugin.getStorage().saveTimesAsync(dst); } catch (Throwable ignored) {}
+                        plugin.getStorage().migrateCourseRunCountersAsync(oldName, newName, ok -> {
+                            if (!ok) {
+                                // Keep the old row (and its data) rather than cascade-delete counters that were not carried over
+                                player.sendMessage(messageManager.getMessage("rename-cleanup-failed", "&cRename saved, but failed to cleanup old entry. Check logs."));
+                                return;
+                            }
+                            plugin.getStorage().deleteCourseByNameAsync(oldName, delOk -> {
+                                player.sendMessage(messageManager.getMessage("admin-rename-success", "&aRenamed course &f{old}&a to &f{new}&a.", java.util.Map.of("old", oldName, "new", newName)));
+                                plugin.getLogger().info("[Parkour] Admin " + player.getName() + " renamed course '" + oldName + "' -> '" + newName + "'.");
+                            });
                         });
                     });
                     return true;
@@ -183,10 +194,11 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                     plugin.getStorage().deleteBestTimeAsync(tCourse.getName(), tUid, ok -> {
                         if (ok) {
                             // Remove from in-memory cache too
-                            tCourse.getTimes().remove(tUid);
+                            tCourse.removeTimes(tUid);
                             senderPlayer.sendMessage("§aDeleted best time for §f" + (tOff != null && tOff.getName()!=null? tOff.getName(): tUid) + "§a on §f" + tCourse.getName() + "§a.");
                             plugin.getLogger().info("[Parkour] Admin " + senderPlayer.getName() + " deleted best time for " + (tOff != null && tOff.getName()!=null? tOff.getName(): tUid) + " on " + tCourse.getName() + ".");
                             try { plugin.getHologramManager().updateHolograms(tCourse); } catch (Throwable ignored) {}
+                            try { plugin.getHologramManager().personalBestChanged(tCourse, tUid); } catch (Throwable ignored) {}
                         } else {
                             senderPlayer.sendMessage("§cFailed to delete best time (not found or error)." );
                         }
@@ -299,30 +311,42 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                     player.sendMessage(messageManager.getMessage("rename-exists", "&cA parkour with that name already exists."));
                     return true;
                 }
-                ParkourCourse dst = com.pikaronga.parkour.util.RenameUtil.cloneWithName(src, fresh);
-                plugin.getHologramManager().removeCourseHolograms(src);
-                parkourManager.removeCourse(src.getName());
-                parkourManager.getCourses().put(dst.getName().toLowerCase(), dst);
-                plugin.getHologramManager().createHolograms(dst);
-                // Persist new row and times, then migrate counters and delete old row
-                try { plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses()); } catch (Throwable ignored) {}
-                try { plugin.getStorage().saveTimesAsync(dst); } catch (Throwable ignored) {}
-                try {
-                    final org.bukkit.entity.Player senderPlayer = player;
-                    plugin.getStorage().migrateCourseRunCountersAsync(current, fresh, ok -> {
-                        plugin.getStorage().deleteCourseByNameAsync(current, delOk -> {
-                            if (delOk != null && delOk) {
-                                senderPlayer.sendMessage(messageManager.getMessage("rename-cleanup-done", "&aFinalized rename in database. Old name cleaned."));
-                                plugin.getLogger().info("[Parkour] Finalized player rename cleanup: '" + current + "' -> '" + fresh + "'.");
-                            } else {
+                // Times, ratings and run counts must be in memory to be carried over
+                plugin.getCacheManager().withLoaded(src, () -> {
+                    if (parkourManager.getCourse(fresh) != null) {
+                        player.sendMessage(messageManager.getMessage("rename-exists", "&cA parkour with that name already exists."));
+                        return;
+                    }
+                    ParkourCourse dst = com.pikaronga.parkour.util.RenameUtil.cloneWithName(src, fresh);
+                    plugin.getHologramManager().removeCourseHolograms(src);
+                    parkourManager.removeCourse(src.getName());
+                    parkourManager.addCourse(dst);
+                    plugin.getHologramManager().createHolograms(dst);
+                    // Persist new row and times, then migrate counters and delete old row
+                    try { plugin.getStorage().flushCourseChanges(); } catch (Throwable ignored) {}
+                    try { plugin.getStorage().saveTimesAsync(dst); } catch (Throwable ignored) {}
+                    try {
+                        final org.bukkit.entity.Player senderPlayer = player;
+                        plugin.getStorage().migrateCourseRunCountersAsync(current, fresh, ok -> {
+                            if (!ok) {
+                                // Keep the old row (and its data) rather than cascade-delete counters that were not carried over
                                 senderPlayer.sendMessage(messageManager.getMessage("rename-cleanup-failed", "&cRename saved, but failed to cleanup old entry. Check logs."));
-                                plugin.getLogger().warning("[Parkour] Failed to delete old course after rename: '" + current + "'");
+                                return;
                             }
+                            plugin.getStorage().deleteCourseByNameAsync(current, delOk -> {
+                                if (delOk != null && delOk) {
+                                    senderPlayer.sendMessage(messageManager.getMessage("rename-cleanup-done", "&aFinalized rename in database. Old name cleaned."));
+                                    plugin.getLogger().info("[Parkour] Finalized player rename cleanup: '" + current + "' -> '" + fresh + "'.");
+                                } else {
+                                    senderPlayer.sendMessage(messageManager.getMessage("rename-cleanup-failed", "&cRename saved, but failed to cleanup old entry. Check logs."));
+                                    plugin.getLogger().warning("[Parkour] Failed to delete old course after rename: '" + current + "'");
+                                }
+                            });
                         });
-                    });
-                } catch (Throwable ignored) {}
-                plugin.getPlayerParkourManager().setLastEditingCourse(player.getUniqueId(), dst);
-                player.sendMessage(messageManager.getMessage("rename-success", "&aRenamed &f{old}&a to &f{new}", java.util.Map.of("old", current, "new", fresh)));
+                    } catch (Throwable ignored) {}
+                    plugin.getPlayerParkourManager().setLastEditingCourse(player.getUniqueId(), dst);
+                    player.sendMessage(messageManager.getMessage("rename-success", "&aRenamed &f{old}&a to &f{new}", java.util.Map.of("old", current, "new", fresh)));
+                });
             }
             case "edit" -> {
                 if (!plugin.getConfigManager().playerParkoursEnabled()) {
@@ -459,52 +483,45 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                         return true;
                     }
                     String oldName = c.getName();
-                    ParkourCourse dst = com.pikaronga.parkour.util.RenameUtil.cloneWithName(c, newName);
-                    plugin.getHologramManager().removeCourseHolograms(c);
-                    parkourManager.removeCourse(oldName);
-                    parkourManager.getCourses().put(dst.getName().toLowerCase(), dst);
-                    plugin.getHologramManager().createHolograms(dst);
-                    // Persist new course row and data, migrate counters, then cleanup old row in DB
-                    try { plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses()); } catch (Throwable ignored) {}
-                    try { plugin.getStorage().saveTimesAsync(dst); } catch (Throwable ignored) {}
-                    try {
-                        final org.bukkit.entity.Player senderPlayer = player;
-                        plugin.getStorage().migrateCourseRunCountersAsync(oldName, newName, ok -> {
-                            plugin.getStorage().deleteCourseByNameAsync(oldName, delOk -> {
-                                if (delOk != null && delOk) {
-                                    senderPlayer.sendMessage(messageManager.getMessage("rename-cleanup-done", "&aFinalized rename in database. Old name cleaned."));
-                                    plugin.getLogger().info("[Parkour] Finalized publish-rename cleanup: '" + oldName + "' -> '" + newName + "'.");
-                                } else {
+                    ParkourCourse src = c;
+                    // Times, ratings and run counts must be in memory to be carried over
+                    plugin.getCacheManager().withLoaded(src, () -> {
+                        if (parkourManager.getCourse(newName) != null) {
+                            player.sendMessage(messageManager.getMessage("rename-exists", "&cA parkour with that name already exists."));
+                            return;
+                        }
+                        ParkourCourse dst = com.pikaronga.parkour.util.RenameUtil.cloneWithName(src, newName);
+                        plugin.getHologramManager().removeCourseHolograms(src);
+                        parkourManager.removeCourse(oldName);
+                        parkourManager.addCourse(dst);
+                        plugin.getHologramManager().createHolograms(dst);
+                        // Persist new course row and data, migrate counters, then cleanup old row in DB
+                        try { plugin.getStorage().flushCourseChanges(); } catch (Throwable ignored) {}
+                        try { plugin.getStorage().saveTimesAsync(dst); } catch (Throwable ignored) {}
+                        try {
+                            final org.bukkit.entity.Player senderPlayer = player;
+                            plugin.getStorage().migrateCourseRunCountersAsync(oldName, newName, ok -> {
+                                if (!ok) {
+                                    // Keep the old row (and its data) rather than cascade-delete counters that were not carried over
                                     senderPlayer.sendMessage(messageManager.getMessage("rename-cleanup-failed", "&cRename saved, but failed to cleanup old entry. Check logs."));
-                                    plugin.getLogger().warning("[Parkour] Failed to delete old course after publish rename: '" + oldName + "'");
+                                    return;
                                 }
+                                plugin.getStorage().deleteCourseByNameAsync(oldName, delOk -> {
+                                    if (delOk != null && delOk) {
+                                        senderPlayer.sendMessage(messageManager.getMessage("rename-cleanup-done", "&aFinalized rename in database. Old name cleaned."));
+                                        plugin.getLogger().info("[Parkour] Finalized publish-rename cleanup: '" + oldName + "' -> '" + newName + "'.");
+                                    } else {
+                                        senderPlayer.sendMessage(messageManager.getMessage("rename-cleanup-failed", "&cRename saved, but failed to cleanup old entry. Check logs."));
+                                        plugin.getLogger().warning("[Parkour] Failed to delete old course after publish rename: '" + oldName + "'");
+                                    }
+                                });
                             });
-                        });
-                    } catch (Throwable ignored) {}
-                    c = dst;
-                }
-                if (c.getStartPlate() == null || c.getFinishPlate() == null) {
-                    player.sendMessage(messageManager.getMessage("publish-missing-points", "&cSet start and end plates before publishing."));
-                    return true;
-                }
-                if (c.getTopHologramLocation() == null) {
-                    player.sendMessage(messageManager.getMessage("publish-missing-topholo", "&cSet a Top Times hologram before publishing."));
+                        } catch (Throwable ignored) {}
+                        finishPublish(player, dst);
+                    });
                     return true;
                 }
-                try {
-                    // Require some minimal building
-                    java.lang.reflect.Method m = c.getClass().getMethod("getPlacedBlocks");
-                    Object val = m.invoke(c);
-                    if (val instanceof Integer blocks && blocks < 20) {
-                        player.sendMessage(messageManager.getMessage("publish-min-blocks", "&cYou need to place at least 20 blocks in your plot before publishing."));
-                        return true;
-                    }
-                } catch (Exception ignored) { }
-                c.setPublished(true);
-                plugin.getHologramManager().createHolograms(c);
-                try { plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses()); } catch (Throwable ignored) {}
-                plugin.getPlayerParkourManager().handleCoursePublished(c);
-                player.sendMessage(messageManager.getMessage("publish-success", "&aPublished parkour &f{course}&a.", Map.of("course", c.getName())));
+                finishPublish(player, c);
             }
             case "browse" -> {
                 if (!plugin.getConfigManager().playerParkoursEnabled()) {
@@ -515,9 +532,7 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                     player.sendMessage(messageManager.getMessage("no-permission", "&cYou do not have permission to use this command."));
                     return true;
                 }
-                java.util.List<ParkourCourse> published = new java.util.ArrayList<>(parkourManager.getCourses().values());
-                published.removeIf(pc -> !pc.isPublished());
-                com.pikaronga.parkour.gui.PublishedParkoursGUI.open(player, plugin, published, "rate", 1);
+                com.pikaronga.parkour.gui.PublishedParkoursGUI.open(player, plugin, "rate", 1);
             }
             case "rategui" -> {
                 if (!plugin.getConfigManager().playerParkoursEnabled()) {
@@ -583,15 +598,17 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                 try {
                     int looks = Integer.parseInt(args[2]);
                     int diff = Integer.parseInt(args[3]);
-                    if (rated.getCreators().contains(player.getUniqueId())) {
-                        // Allow creators to rate difficulty only
-                        rated.setDifficultyRating(player.getUniqueId(), diff);
-                    } else {
-                        rated.setLookRating(player.getUniqueId(), looks);
-                        rated.setDifficultyRating(player.getUniqueId(), diff);
-                    }
-                    try { plugin.getStorage().saveCourses(parkourManager.getCourses()); } catch (Throwable ignored) {}
-                    player.sendMessage(messageManager.getMessage("rate-success", "&aYour rating has been recorded."));
+                    plugin.getCacheManager().withLoaded(rated, () -> {
+                        if (rated.getCreators().contains(player.getUniqueId())) {
+                            // Allow creators to rate difficulty only
+                            rated.setDifficultyRating(player.getUniqueId(), diff);
+                        } else {
+                            rated.setLookRating(player.getUniqueId(), looks);
+                            rated.setDifficultyRating(player.getUniqueId(), diff);
+                        }
+                        // Only once applied: a failed details load drops the action
+                        player.sendMessage(messageManager.getMessage("rate-success", "&aYour rating has been recorded."));
+                    });
                 } catch (NumberFormatException ex) {
                     player.sendMessage(messageManager.getMessage("rate-usage", "&cUsage: /parkour rate <name> <looks 1-5> <diff 1-5>"));
                 }
@@ -644,7 +661,7 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                     return true;
                 }
                 java.util.List<ParkourCourse> all = new java.util.ArrayList<>(parkourManager.getCourses().values());
-                player.openInventory(com.pikaronga.parkour.gui.AdminParkoursGUI.build(all));
+                player.openInventory(com.pikaronga.parkour.gui.AdminParkoursGUI.build(all, plugin.getNameService()));
             }
             case "reload" -> {
                 if (!player.hasPermission("parkour.admin")) {
@@ -655,6 +672,7 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                 plugin.getHologramTextProvider().reload();
                 plugin.getGuiConfig().reload();
                 plugin.getConfigManager().reload();
+                plugin.getSessionManager().reloadItems();
                 player.sendMessage(messageManager.getMessage("reloaded", "&aReloaded configuration and messages."));
             }
             case "setstaffdiff" -> {
@@ -688,9 +706,8 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
                     player.sendMessage(messageManager.getMessage("feature-disabled", "&cRewards are disabled."));
                     return true;
                 }
-                java.util.List<ParkourCourse> published = new java.util.ArrayList<>(parkourManager.getCourses().values());
-                published.removeIf(pc -> !pc.isPublished());
-                published.sort((a,b) -> Double.compare(b.getAverageLookRating(), a.getAverageLookRating()));
+                // Copy: the dispatched reward commands may change the index
+                java.util.List<ParkourCourse> published = new java.util.ArrayList<>(parkourManager.getPublishedIndex().sorted(com.pikaronga.parkour.util.PublishedCourseIndex.Sort.LOOKS, false));
                 int winners = Math.min(plugin.getConfigManager().rewardsWinners(), published.size());
                 String cmd = plugin.getConfigManager().rewardsCommand();
                 int given = 0;
@@ -707,15 +724,35 @@ public class ParkourCommand implements CommandExecutor, TabCompleter {
             }
             default -> {
                 player.sendMessage(messageManager.getMessage("unknown-subcommand", "&cUnknown subcommand."));
-                success = false;
             }
         }
-        if (success) {
-            plugin.getStorage().saveCourses(parkourManager.getCourses());
-        }
         return true;
     }
 
+    private void finishPublish(Player player, ParkourCourse c) {
+        if (c.getStartPlate() == null || c.getFinishPlate() == null) {
+            player.sendMessage(messageManager.getMessage("publish-missing-points", "&cSet start and end plates before publishing."));
+            return;
+        }
+        if (c.getTopHologramLocation() == null) {
+            player.sendMessage(messageManager.getMessage("publish-missing-topholo", "&cSet a Top Times hologram before publishing."));
+            return;
+        }
+        try {
+            // Require some minimal building
+            java.lang.reflect.Method m = c.getClass().getMethod("getPlacedBlocks");
+            Object val = m.invoke(c);
+            if (val instanceof Integer blocks && blocks < 20) {
+                player.sendMessage(messageManager.getMessage("publish-min-blocks", "&cYou need to place at least 20 blocks in your plot before publishing."));
+                return;
+            }
+        } catch (Exception ignored) { }
+        c.setPublished(true);
+        plugin.getHologramManager().createHolograms(c);
+        plugin.getPlayerParkourManager().handleCoursePublished(c);
+        player.sendMessage(messageManager.getMessage("publish-success", "&aPublished parkour &f{course}&a.", Map.of("course", c.getName())));
+    }
+
     private boolean ensureCourseEditable(Player player, ParkourCourse course) {
         if (course == null) return false;
         if (course.isPublished()) {
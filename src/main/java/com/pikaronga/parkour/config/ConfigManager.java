@@ -153,6 +153,58 @@ public class ConfigManager {
         this.config = YamlConfiguration.loadConfiguration(file);
     }
 
+    public long runWriteFlushIntervalMs() {
+        return Math.max(50L, config.getLong("database.run-writes.flush-interval-ms", 2000L));
+    }
+
+    public int runWriteMaxBatch() {
+        return Math.max(1, config.getInt("database.run-writes.max-batch", 200));
+    }
+
+    public long cacheMaxEntries() {
+        return Math.max(1000L, config.getLong("cache.max-entries", 250_000L));
+    }
+
+    public double cacheMemoryPressureRatio() {
+        return Math.max(0.1D, Math.min(1.0D, config.getDouble("cache.memory-pressure-ratio", 0.85D)));
+    }
+
+    public int courseLoadPerTick() {
+        return Math.max(1, config.getInt("database.load.courses-per-tick", 50));
+    }
+
+    public com.pikaronga.parkour.storage.DatabaseManager.Settings databasePoolSettings() {
+        com.pikaronga.parkour.storage.DatabaseManager.Settings d = com.pikaronga.parkour.storage.DatabaseManager.Settings.defaults();
+        String journal = config.getString("database.pool.journal-mode", d.journalMode()).toUpperCase(Locale.ROOT);
+        if (!List.of("WAL", "DELETE", "TRUNCATE", "PERSIST", "MEMORY", "OFF").contains(journal)) journal = d.journalMode();
+        String sync = config.getString("database.pool.synchronous", d.synchronous()).toUpperCase(Locale.ROOT);
+        if (!List.of("OFF", "NORMAL", "FULL", "EXTRA").contains(sync)) sync = d.synchronous();
+        return new com.pikaronga.parkour.storage.DatabaseManager.Settings(
+                Math.max(1, config.getInt("database.pool.readers", d.readers())),
+                Math.max(0, config.getInt("database.pool.statement-cache-size", d.statementCacheSize())),
+                journal,
+                sync,
+                Math.max(0, config.getInt("database.pool.cache-size-kb", d.cacheSizeKb())),
+                Math.max(0L, config.getLong("database.pool.mmap-size-mb", d.mmapSizeBytes() / (1024 * 1024))) * 1024L * 1024L,
+                Math.max(0, config.getInt("database.pool.busy-timeout-ms", d.busyTimeoutMs())));
+    }
+
+    public com.pikaronga.parkour.hologram.HologramBackend hologramBackend() {
+        return com.pikaronga.parkour.hologram.HologramBackend.fromConfig(config.getString("holograms.backend", "text_display"));
+    }
+
+    public int personalBestUpdatesPerTick() {
+        return Math.max(1, config.getInt("holograms.personal-best.updates-per-tick", 64));
+    }
+
+    public int nameCacheSize() {
+        return Math.max(16, config.getInt("names.cache-size", 4096));
+    }
+
+    public long nameCacheTtlMs() {
+        return Math.max(1L, config.getLong("names.ttl-minutes", 60L)) * 60_000L;
+    }
+
     public boolean debugEnabled() {
         return config.getBoolean("debug", false);
     }
@@ -0,0 +1,202 @@
+package com.pikaronga.parkour.config;
+
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A configured message compiled once: literal runs with {@code &}, {@code &#RRGGBB} and gradient codes already
+ * translated, alternating with {@code {placeholder}} slots. Rendering is a single append pass.
+ * Immutable, safe to share between threads.
+ */
+final class MessageTemplate {
+
+    // Gradient blocks: "&#RRGGBB/ text /&#RRGGBB"
+    private static final Pattern GRADIENT = Pattern.compile("&#([A-Fa-f0-9]{6})/([^/]+)/&#([A-Fa-f0-9]{6})");
+    // Standalone hex codes: "&#RRGGBB"
+    private static final Pattern HEX = Pattern.compile("&#([A-Fa-f0-9]{6})");
+
+    private static final MessageTemplate EMPTY = new MessageTemplate(new String[]{""}, new String[0], null);
+
+    // literals.length == keys.length + 1
+    private final String[] literals;
+    private final String[] keys;
+    // Set when a gradient spans a placeholder: colors then depend on the value and are applied per render
+    private final String dynamic;
+
+    private MessageTemplate(String[] literals, String[] keys, String dynamic) {
+        this.literals = literals;
+        this.keys = keys;
+        this.dynamic = dynamic;
+    }
+
+    static MessageTemplate compile(String raw) {
+        if (raw == null || raw.isEmpty()) return EMPTY;
+        Matcher gradients = GRADIENT.matcher(raw);
+        while (gradients.find()) {
+            if (gradients.group(2).indexOf('{') >= 0) {
+                return new MessageTemplate(new String[0], new String[0], raw);
+            }
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int last = 0;
+        int open = raw.indexOf('{');
+        while (open >= 0) {
+            int close = raw.indexOf('}', open + 1);
+            if (close < 0) break;
+            String key = raw.substring(open + 1, close);
+            if (key.indexOf('{') >= 0) {
+                // "{{name}": the first brace is literal
+                open = raw.indexOf('{', open + 1);
+                continue;
+            }
+            literals.add(colorize(raw.substring(last, open)));
+            keys.add(key);
+            last = close + 1;
+            open = raw.indexOf('{', last);
+        }
+        literals.add(colorize(raw.substring(last)));
+        return new MessageTemplate(literals.toArray(new String[0]), keys.toArray(new String[0]), null);
+    }
+
+    /**
+     * Substitutes the placeholders; a slot without a value keeps its {@code {key}} text.
+     */
+    String render(Map<String, String> placeholders) {
+        if (dynamic != null) {
+            String result = dynamic;
+            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+                result = result.replace("{" + entry.getKey() + "}", entry.getValue());
+            }
+            return colorize(result);
+        }
+        if (keys.length == 0) return literals[0];
+        StringBuilder out = new StringBuilder(literals[0].length() + keys.length * 16);
+        out.append(literals[0]);
+        for (int i = 0; i < keys.length; i++) {
+            String value = placeholders.get(keys[i]);
+            if (value != null) {
+                out.append(value);
+            } else {
+                out.append('{').append(keys[i]).append('}');
+            }
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Every string of one config file compiled at load, plus the call sites' defaults for paths it does not set
+     * (compiled on first use; a few defaults embed runtime text, so that cache is capped).
+     */
+    static final class Catalog {
+        private static final int MAX_DEFAULTS = 1024;
+
+        private final Map<String, MessageTemplate> configured = new HashMap<>();
+        private final Map<String, MessageTemplate> defaults = new ConcurrentHashMap<>();
+
+        Catalog(ConfigurationSection config) {
+            for (String path : config.getKeys(true)) {
+                if (config.isConfigurationSection(path)) continue;
+                String value = config.getString(path);
+                if (value != null) configured.put(path, compile(value));
+            }
+        }
+
+        MessageTemplate get(String path, String def) {
+            MessageTemplate template = configured.get(path);
+            if (template != null) return template;
+            if (def == null) return EMPTY;
+            template = defaults.get(def);
+            if (template == null) {
+                template = compile(def);
+                if (defaults.size() < MAX_DEFAULTS) defaults.put(def, template);
+            }
+            return template;
+        }
+    }
+
+    /**
+     * Translates gradients, hex codes and {@code &} color codes, in that order.
+     */
+    static String colorize(String input) {
+        if (input.indexOf('&') < 0) return input;
+        return ChatColor.translateAlternateColorCodes('&', applyHexColors(applyGradients(input)));
+    }
+
+    private static String applyHexColors(String input) {
+        StringBuilder out = new StringBuilder();
+        Matcher m = HEX.matcher(input);
+        int last = 0;
+        while (m.find()) {
+            out.append(input, last, m.start());
+            out.append(rgbToSection(m.group(1)));
+            last = m.end();
+        }
+        out.append(input.substring(last));
+        return out.toString();
+    }
+
+    private static String applyGradients(String input) {
+        Matcher m = GRADIENT.matcher(input);
+        StringBuffer sb = new StringBuffer();
+        while (m.find()) {
+            String grad = gradient(m.group(2), m.group(1), m.group(3));
+            m.appendReplacement(sb, Matcher.quoteReplacement(grad));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static String gradient(String text, String startHex, String endHex) {
+        if (text == null || text.isEmpty()) return "";
+        int n = text.length();
+        int[] s = parseHex(startHex);
+        int[] e = parseHex(endHex);
+        if (s == null || e == null) return rgbToSection(startHex) + text;
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            double t = (n == 1) ? 0.0 : (i / (double) (n - 1));
+            int r = (int) Math.round(s[0] + (e[0] - s[0]) * t);
+            int g = (int) Math.round(s[1] + (e[1] - s[1]) * t);
+            int b = (int) Math.round(s[2] + (e[2] - s[2]) * t);
+            String hex = String.format("%02X%02X%02X", clamp(r), clamp(g), clamp(b));
+            out.append(rgbToSection(hex)).append(text.charAt(i));
+        }
+        return out.toString();
+    }
+
+    private static int clamp(int v) { return Math.max(0, Math.min(255, v)); }
+
+    private static int[] parseHex(String hex) {
+        if (hex == null) return null;
+        String h = hex.startsWith("#") ? hex.substring(1) : hex;
+        if (h.length() != 6) return null;
+        try {
+            int r = Integer.parseInt(h.substring(0, 2), 16);
+            int g = Integer.parseInt(h.substring(2, 4), 16);
+            int b = Integer.parseInt(h.substring(4, 6), 16);
+            return new int[]{r, g, b};
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static String rgbToSection(String hex) {
+        String h = hex.startsWith("#") ? hex.substring(1) : hex;
+        if (h.length() != 6) return "";
+        StringBuilder sb = new StringBuilder("§x");
+        for (char c : h.toCharArray()) {
+            sb.append('§').append(Character.toUpperCase(c));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,178 @@
+package com.pikaronga.parkour.course;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-course ranking of each player's best time, ordered by (best nanos, player UUID).
+ * Backed by a size-augmented treap: updates and rank lookups are O(log n), top-N is O(log n + N).
+ */
+final class Leaderboard {
+
+    private static final class Node {
+        final long nanos;
+        final UUID player;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(long nanos, UUID player) {
+            this.nanos = nanos;
+            this.player = player;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private Node root;
+
+    /**
+     * Moves the player from {@code previous} to {@code next}; either may be negative for "not ranked".
+     * The caller owns the per-player best (see {@link PlayerTimes}), so no second UUID map is kept here.
+     */
+    void update(UUID player, long previous, long next) {
+        if (previous == next) {
+            return;
+        }
+        if (previous >= 0) {
+            root = delete(root, previous, player);
+        }
+        if (next >= 0) {
+            root = insert(root, new Node(next, player));
+        }
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * 1-based position of the entry (best, player), or -1 if it is not ranked.
+     */
+    int rank(UUID player, long best) {
+        if (best < 0) {
+            return -1;
+        }
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int c = compare(best, player, node);
+            if (c < 0) {
+                node = node.left;
+            } else if (c > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left) + 1;
+            }
+        }
+        return -1;
+    }
+
+    List<Map.Entry<UUID, Long>> top(int limit) {
+        if (limit <= 0 || root == null) {
+            return new ArrayList<>(0);
+        }
+        List<Map.Entry<UUID, Long>> out = new ArrayList<>(Math.min(limit, size(root)));
+        // Iterative in-order walk that stops after `limit` entries
+        Node[] stack = new Node[64];
+        int depth = 0;
+        Node node = root;
+        while ((node != null || depth > 0) && out.size() < limit) {
+            while (node != null) {
+                if (depth == stack.length) stack = java.util.Arrays.copyOf(stack, depth * 2);
+                stack[depth++] = node;
+                node = node.left;
+            }
+            node = stack[--depth];
+            out.add(Map.entry(node.player, node.nanos));
+            node = node.right;
+        }
+        return out;
+    }
+
+    private static Node insert(Node node, Node item) {
+        if (node == null) {
+            return item;
+        }
+        if (item.priority > node.priority) {
+            Node[] parts = new Node[2];
+            split(node, item.nanos, item.player, parts);
+            item.left = parts[0];
+            item.right = parts[1];
+            return recompute(item);
+        }
+        if (compare(item.nanos, item.player, node) < 0) {
+            node.left = insert(node.left, item);
+        } else {
+            node.right = insert(node.right, item);
+        }
+        return recompute(node);
+    }
+
+    private static Node delete(Node node, long nanos, UUID player) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(nanos, player, node);
+        if (c == 0) {
+            return merge(node.left, node.right);
+        }
+        if (c < 0) {
+            node.left = delete(node.left, nanos, player);
+        } else {
+            node.right = delete(node.right, nanos, player);
+        }
+        return recompute(node);
+    }
+
+    // Splits into keys < (nanos, player) and keys >= (nanos, player)
+    private static void split(Node node, long nanos, UUID player, Node[] out) {
+        if (node == null) {
+            out[0] = null;
+            out[1] = null;
+            return;
+        }
+        if (compare(nanos, player, node) > 0) {
+            split(node.right, nanos, player, out);
+            node.right = out[0];
+            out[0] = recompute(node);
+        } else {
+            split(node.left, nanos, player, out);
+            node.left = out[1];
+            out[1] = recompute(node);
+        }
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return recompute(left);
+        }
+        right.left = merge(left, right.left);
+        return recompute(right);
+    }
+
+    private static int compare(long nanos, UUID player, Node node) {
+        int c = Long.compare(nanos, node.nanos);
+        return c != 0 ? c : player.compareTo(node.player);
+    }
+
+    private static Node recompute(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -1,25 +1,26 @@
 package com.pikaronga.parkour.course;
 
-import com.pikaronga.parkour.config.HologramTextProvider;
 import com.pikaronga.parkour.util.LocationUtil;
-import com.pikaronga.parkour.util.TimeUtil;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ParkourCourse {
 
     public static final double DEFAULT_MAX_FALL_DISTANCE = 10.0;
 
+    // Parts of the stored course that changed since the last write (see getUnsavedChanges)
+    public static final int CHANGED_ROW = 1;          // plates, teleports, holograms, plot, flags
+    public static final int CHANGED_CREATORS = 1 << 1;
+    public static final int CHANGED_CHECKPOINTS = 1 << 2;
+    public static final int CHANGED_RATINGS = 1 << 3;  // every rating (a new course); single ratings go to changedRaters
+    public static final int CHANGED_ALL = CHANGED_ROW | CHANGED_CREATORS | CHANGED_CHECKPOINTS | CHANGED_RATINGS;
+
     private final String name;
     private Location startPlate;
     private Location startTeleport;
@@ -28,7 +29,9 @@ public class ParkourCourse {
     private final List<Checkpoint> checkpoints = new ArrayList<>();
     private Location topHologramLocation;
     private Location bestHologramLocation;
-    private final Map<UUID, List<Long>> times = new HashMap<>();
+    private final PlayerTimes times = new PlayerTimes();
+    // Best time per player kept in rank order; updated alongside `times`
+    private final Leaderboard leaderboard = new Leaderboard();
     private double maxFallDistance = DEFAULT_MAX_FALL_DISTANCE;
 
     // Player-parkour specific (optional)
@@ -47,6 +50,23 @@ public class ParkourCourse {
     private final Map<UUID, Integer> playerRunCounts = new ConcurrentHashMap<>();
     private int totalRunCount = 0;
 
+    // Rating aggregates stay resident while the per-player maps may be paged out
+    private int lookSum = 0;
+    private int lookCount = 0;
+    private int difficultySum = 0;
+    private int difficultyCount = 0;
+    // False while times, per-player ratings and run counts are not in memory (see ParkourCacheManager)
+    private volatile boolean detailsLoaded = true;
+
+    // Notified whenever a start/checkpoint/finish plate changes (keeps ParkourManager's plate index current)
+    private java.util.function.Consumer<ParkourCourse> plateListener;
+
+    // Nothing of a new course is stored yet; storage clears this after loading a course
+    private int unsavedChanges = CHANGED_ALL;
+    private final java.util.Set<UUID> changedRaters = new java.util.HashSet<>();
+    // Notified on every persisted change (queues the course for an incremental write)
+    private java.util.function.Consumer<ParkourCourse> changeListener;
+
     public ParkourCourse(String name) {
         this.name = name;
     }
@@ -61,6 +81,8 @@ public class ParkourCourse {
 
     public void setStartPlate(Location startPlate) {
         this.startPlate = startPlate;
+        firePlatesChanged();
+        markChanged(CHANGED_ROW);
     }
 
     public Location getStartTeleport() {
@@ -69,6 +91,7 @@ public class ParkourCourse {
 
     public void setStartTeleport(Location startTeleport) {
         this.startTeleport = startTeleport;
+        markChanged(CHANGED_ROW);
     }
 
     public Location getFinishPlate() {
@@ -77,6 +100,8 @@ public class ParkourCourse {
 
     public void setFinishPlate(Location finishPlate) {
         this.finishPlate = finishPlate;
+        firePlatesChanged();
+        markChanged(CHANGED_ROW);
     }
 
     public Location getFinishTeleport() {
@@ -85,6 +110,7 @@ public class ParkourCourse {
 
     public void setFinishTeleport(Location finishTeleport) {
         this.finishTeleport = finishTeleport;
+        markChanged(CHANGED_ROW);
     }
 
     public List<Checkpoint> getCheckpoints() {
@@ -93,6 +119,8 @@ public class ParkourCourse {
 
     public void clearCheckpoints() {
         checkpoints.clear();
+        firePlatesChanged();
+        markChanged(CHANGED_CHECKPOINTS);
     }
 
     public void addCheckpoint(Checkpoint checkpoint) {
@@ -103,10 +131,69 @@ public class ParkourCourse {
             Checkpoint existing = checkpoints.get(i);
             if (existing != null && LocationUtil.isSameBlock(existing.plateLocation(), checkpoint.plateLocation())) {
                 checkpoints.set(i, checkpoint);
+                firePlatesChanged();
+                markChanged(CHANGED_CHECKPOINTS);
                 return;
             }
         }
         checkpoints.add(checkpoint);
+        firePlatesChanged();
+        markChanged(CHANGED_CHECKPOINTS);
+    }
+
+    public void setPlateListener(java.util.function.Consumer<ParkourCourse> listener) {
+        this.plateListener = listener;
+    }
+
+    private void firePlatesChanged() {
+        if (plateListener != null) {
+            plateListener.accept(this);
+        }
+    }
+
+    public void setChangeListener(java.util.function.Consumer<ParkourCourse> listener) {
+        this.changeListener = listener;
+    }
+
+    private void markChanged(int parts) {
+        unsavedChanges |= parts;
+        if (changeListener != null) {
+            changeListener.accept(this);
+        }
+    }
+
+    /**
+     * Bit set of {@code CHANGED_*} parts not yet handed to storage.
+     */
+    public int getUnsavedChanges() {
+        return unsavedChanges;
+    }
+
+    /**
+     * Players whose rating changed since the last write (ignored while {@link #CHANGED_RATINGS} is set).
+     */
+    public java.util.Set<UUID> getChangedRaters() {
+        return java.util.Collections.unmodifiableSet(changedRaters);
+    }
+
+    public boolean hasUnsavedChanges() {
+        return unsavedChanges != 0 || !changedRaters.isEmpty();
+    }
+
+    /**
+     * Called by storage once the current state has been captured for writing.
+     */
+    public void clearUnsavedChanges() {
+        unsavedChanges = 0;
+        changedRaters.clear();
+    }
+
+    /**
+     * Re-marks parts whose write failed so they are written again.
+     */
+    public void restoreUnsavedChanges(int parts, java.util.Collection<UUID> raters) {
+        changedRaters.addAll(raters);
+        markChanged(parts);
     }
 
     public Location getTopHologramLocation() {
@@ -115,6 +202,7 @@ public class ParkourCourse {
 
     public void setTopHologramLocation(Location topHologramLocation) {
         this.topHologramLocation = topHologramLocation;
+        markChanged(CHANGED_ROW);
     }
 
     public Location getBestHologramLocation() {
@@ -123,10 +211,19 @@ public class ParkourCourse {
 
     public void setBestHologramLocation(Location bestHologramLocation) {
         this.bestHologramLocation = bestHologramLocation;
+        markChanged(CHANGED_ROW);
     }
 
+    /**
+     * Read-only view of each player's stored times (best first). Mutate through
+     * {@link #addTime}, {@link #setBestTime}, {@link #removeTimes} or {@link #clearTimes} so the leaderboard stays in sync.
+     */
     public Map<UUID, List<Long>> getTimes() {
-        return times;
+        return times.asMap();
+    }
+
+    public boolean hasTimes() {
+        return !times.isEmpty();
     }
 
     public double getMaxFallDistance() {
@@ -141,85 +238,144 @@ public class ParkourCourse {
     }
 
     public void addTime(UUID playerId, long time) {
-        List<Long> playerTimes = times.computeIfAbsent(playerId, key -> new ArrayList<>());
-        playerTimes.add(time);
-        playerTimes.sort(Long::compareTo);
-        if (playerTimes.size() > 3) {
-            playerTimes.subList(3, playerTimes.size()).clear();
+        long previous = times.best(playerId);
+        leaderboard.update(playerId, previous, times.add(playerId, time));
+    }
+
+    /**
+     * Replaces whatever is stored for the player with a single best time (as loaded from storage).
+     */
+    public void setBestTime(UUID playerId, long best) {
+        long previous = times.best(playerId);
+        times.set(playerId, best);
+        leaderboard.update(playerId, previous, best);
+    }
+
+    public void removeTimes(UUID playerId) {
+        long previous = times.best(playerId);
+        if (times.remove(playerId)) {
+            leaderboard.update(playerId, previous, -1L);
         }
     }
 
+    public void clearTimes() {
+        times.clear();
+        leaderboard.clear();
+    }
+
     public long getBestTime(UUID playerId) {
-        return times.getOrDefault(playerId, Collections.emptyList()).stream()
-                .min(Long::compareTo)
-                .orElse(-1L);
+        return times.best(playerId);
     }
 
     public List<Map.Entry<UUID, Long>> getTopTimes(int limit) {
-        return times.entrySet().stream()
-                .map(entry -> Map.entry(entry.getKey(), entry.getValue().stream().min(Long::compareTo).orElse(Long.MAX_VALUE)))
-                .sorted(Comparator.comparingLong(Map.Entry::getValue))
-                .limit(limit)
-                .collect(Collectors.toList());
+        return leaderboard.top(limit);
     }
 
-    public List<String> createTopLines(HologramTextProvider textProvider) {
-        return createTopLinesWithLimit(textProvider, 10);
+    /**
+     * 1-based leaderboard position of the player's best time, or -1 if they have none.
+     */
+    public int getRank(UUID playerId) {
+        return leaderboard.rank(playerId, times.best(playerId));
     }
 
-    public List<String> createTopLinesWithLimit(HologramTextProvider textProvider, int limit) {
-        List<Map.Entry<UUID, Long>> top = getTopTimes(limit);
-        List<String> lines = new ArrayList<>();
-        lines.add(textProvider.formatTopHeader(getName()));
-        if (top.isEmpty()) {
-            lines.add(textProvider.formatTopEmpty(getName()));
-            return lines;
-        }
-        for (int i = 0; i < top.size(); i++) {
-            Map.Entry<UUID, Long> entry = top.get(i);
-            String name = Bukkit.getOfflinePlayer(entry.getKey()).getName();
-            if (name == null || name.isBlank()) {
-                name = entry.getKey().toString().substring(0, 8);
-            }
-            lines.add(textProvider.formatTopEntry(i + 1, name, TimeUtil.formatDuration(entry.getValue()), getName()));
-        }
-        return lines;
+    public int getRankedPlayerCount() {
+        return leaderboard.size();
     }
 
     // --- Player-parkour additions ---
     public List<UUID> getCreators() { return creators; }
-    public void addCreator(UUID uuid) { if (!creators.contains(uuid)) creators.add(uuid); }
-    public void removeCreator(UUID uuid) { creators.remove(uuid); }
+    public void addCreator(UUID uuid) { if (!creators.contains(uuid)) { creators.add(uuid); markChanged(CHANGED_CREATORS); } }
+    public void removeCreator(UUID uuid) { if (creators.remove(uuid)) markChanged(CHANGED_CREATORS); }
     public boolean isPublished() { return published; }
-    public void setPublished(boolean published) { this.published = published; }
+    public void setPublished(boolean published) { this.published = published; markChanged(CHANGED_ROW); }
     public com.pikaronga.parkour.player.PlotRegion getPlotRegion() { return plotRegion; }
-    public void setPlotRegion(com.pikaronga.parkour.player.PlotRegion plotRegion) { this.plotRegion = plotRegion; }
+    public void setPlotRegion(com.pikaronga.parkour.player.PlotRegion plotRegion) { this.plotRegion = plotRegion; markChanged(CHANGED_ROW); }
     public Location getCreatorHologramLocation() { return creatorHologramLocation; }
-    public void setCreatorHologramLocation(Location location) { this.creatorHologramLocation = location; }
+    public void setCreatorHologramLocation(Location location) { this.creatorHologramLocation = location; markChanged(CHANGED_ROW); }
 
+    /**
+     * Only call while {@link #isDetailsLoaded()}; the aggregate is adjusted by the player's previous rating.
+     */
     public void setLookRating(UUID player, int value) {
         int v = Math.max(1, Math.min(5, value));
-        lookRatings.put(player, v);
+        Integer previous = lookRatings.put(player, v);
+        lookSum += v - (previous == null ? 0 : previous);
+        if (previous == null) lookCount++;
+        changedRaters.add(player);
+        markChanged(0);
     }
     public void setDifficultyRating(UUID player, int value) {
         int v = Math.max(1, Math.min(5, value));
-        difficultyRatings.put(player, v);
+        Integer previous = difficultyRatings.put(player, v);
+        difficultySum += v - (previous == null ? 0 : previous);
+        if (previous == null) difficultyCount++;
+        changedRaters.add(player);
+        markChanged(0);
     }
-    public Map<UUID, Integer> getLookRatings() { return lookRatings; }
-    public Map<UUID, Integer> getDifficultyRatings() { return difficultyRatings; }
+    public Map<UUID, Integer> getLookRatings() { return java.util.Collections.unmodifiableMap(lookRatings); }
+    public Map<UUID, Integer> getDifficultyRatings() { return java.util.Collections.unmodifiableMap(difficultyRatings); }
     public double getAverageLookRating() {
-        if (lookRatings.isEmpty()) return 0.0;
-        return lookRatings.values().stream().mapToInt(Integer::intValue).average().orElse(0.0);
+        return lookCount == 0 ? 0.0 : (double) lookSum / lookCount;
     }
     public double getAverageDifficultyRating() {
-        if (difficultyRatings.isEmpty()) return 0.0;
-        return difficultyRatings.values().stream().mapToInt(Integer::intValue).average().orElse(0.0);
+        return difficultyCount == 0 ? 0.0 : (double) difficultySum / difficultyCount;
+    }
+    public int getLookRatingCount() { return lookCount; }
+    public int getDifficultyRatingCount() { return difficultyCount; }
+    public int getLookRatingSum() { return lookSum; }
+    public int getDifficultyRatingSum() { return difficultySum; }
+
+    /**
+     * Aggregates as stored, for courses whose per-player ratings are not loaded.
+     */
+    public void setRatingAggregates(int lookSum, int lookCount, int difficultySum, int difficultyCount) {
+        this.lookSum = Math.max(0, lookSum);
+        this.lookCount = Math.max(0, lookCount);
+        this.difficultySum = Math.max(0, difficultySum);
+        this.difficultyCount = Math.max(0, difficultyCount);
+    }
+
+    // ---- Lazily loaded details (times, per-player ratings, per-player run counts) ----
+    public boolean isDetailsLoaded() { return detailsLoaded; }
+
+    /**
+     * Number of per-player entries currently held in memory (the cache's eviction weight).
+     */
+    public int getResidentEntryCount() {
+        return times.size() + lookRatings.size() + difficultyRatings.size() + playerRunCounts.size();
+    }
+
+    /**
+     * Drops the heavy per-player data; the descriptor (plates, creators, flags, aggregates, total runs) stays.
+     */
+    public void unloadDetails() {
+        detailsLoaded = false;
+        clearTimes();
+        lookRatings.clear();
+        difficultyRatings.clear();
+        playerRunCounts.clear();
+    }
+
+    /**
+     * Installs per-player details read from storage. Values already in memory (changed while loading) win,
+     * run counts keep the larger of both; times are merged separately through {@link #addTime}.
+     */
+    public void applyDetails(Map<UUID, Integer> looks, Map<UUID, Integer> difficulties, Map<UUID, Integer> runs) {
+        looks.forEach(lookRatings::putIfAbsent);
+        difficulties.forEach(difficultyRatings::putIfAbsent);
+        runs.forEach((u, r) -> playerRunCounts.merge(u, Math.max(0, r), Math::max));
+        lookSum = 0;
+        for (int v : lookRatings.values()) lookSum += v;
+        lookCount = lookRatings.size();
+        difficultySum = 0;
+        for (int v : difficultyRatings.values()) difficultySum += v;
+        difficultyCount = difficultyRatings.size();
+        detailsLoaded = true;
     }
     public Integer getStaffDifficulty() { return staffDifficulty; }
     public void setStaffDifficulty(Integer staffDifficulty) {
-        if (staffDifficulty == null) { this.staffDifficulty = null; return; }
-        int v = Math.max(1, Math.min(5, staffDifficulty));
-        this.staffDifficulty = v;
+        this.staffDifficulty = staffDifficulty == null ? null : Math.max(1, Math.min(5, staffDifficulty));
+        markChanged(CHANGED_ROW);
     }
 
     public int getPlacedBlocks() { return placedBlocks; }
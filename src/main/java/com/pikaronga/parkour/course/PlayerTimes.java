@@ -0,0 +1,256 @@
+package com.pikaronga.parkour.course;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Each player's best {@value #KEEP} runs, stored in flat primitive arrays instead of boxed lists.
+ * Open addressing with linear probing keyed on the two halves of the UUID; a slot is free when its count is 0.
+ * Roughly 70 bytes per player versus several hundred for {@code HashMap<UUID, ArrayList<Long>>}.
+ */
+final class PlayerTimes {
+
+    static final int KEEP = 3;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] msbs;
+    private long[] lsbs;
+    private long[] times;   // KEEP entries per slot, ascending
+    private byte[] counts;  // number of valid entries per slot, 0 = empty
+    private int size;
+    private int resizeAt;
+
+    private final Map<UUID, List<Long>> view = new View();
+
+    PlayerTimes() {
+        allocate(16);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Best time for the player, or -1 if none is stored.
+     */
+    long best(UUID player) {
+        int slot = find(player.getMostSignificantBits(), player.getLeastSignificantBits());
+        return slot < 0 ? -1L : times[slot * KEEP];
+    }
+
+    /**
+     * Inserts a run keeping the slot sorted and trimmed to {@value #KEEP}; returns the resulting best.
+     */
+    long add(UUID player, long nanos) {
+        int slot = slotFor(player);
+        int base = slot * KEEP;
+        int n = counts[slot];
+        int pos = n;
+        while (pos > 0 && times[base + pos - 1] > nanos) {
+            pos--;
+        }
+        if (pos < KEEP) {
+            int last = Math.min(n, KEEP - 1);
+            for (int i = last; i > pos; i--) {
+                times[base + i] = times[base + i - 1];
+            }
+            times[base + pos] = nanos;
+            if (n < KEEP) counts[slot] = (byte) (n + 1);
+        }
+        return times[base];
+    }
+
+    /**
+     * Replaces whatever is stored for the player with a single time.
+     */
+    void set(UUID player, long nanos) {
+        int slot = slotFor(player);
+        times[slot * KEEP] = nanos;
+        counts[slot] = 1;
+    }
+
+    boolean remove(UUID player) {
+        int slot = find(player.getMostSignificantBits(), player.getLeastSignificantBits());
+        if (slot < 0) {
+            return false;
+        }
+        counts[slot] = 0;
+        size--;
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        int mask = counts.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (counts[next] != 0) {
+            int home = hash(msbs[next], lsbs[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                move(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return true;
+    }
+
+    void clear() {
+        allocate(16);
+    }
+
+    /**
+     * Read-only {@code Map<UUID, List<Long>>} view; values are materialized per access.
+     */
+    Map<UUID, List<Long>> asMap() {
+        return view;
+    }
+
+    private List<Long> valuesAt(int slot) {
+        int n = counts[slot];
+        Long[] out = new Long[n];
+        for (int i = 0; i < n; i++) {
+            out[i] = times[slot * KEEP + i];
+        }
+        return List.of(out);
+    }
+
+    private int slotFor(UUID player) {
+        long msb = player.getMostSignificantBits();
+        long lsb = player.getLeastSignificantBits();
+        int slot = find(msb, lsb);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size >= resizeAt) {
+            rehash(counts.length * 2);
+        }
+        int mask = counts.length - 1;
+        slot = hash(msb, lsb) & mask;
+        while (counts[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        msbs[slot] = msb;
+        lsbs[slot] = lsb;
+        counts[slot] = 0;
+        size++;
+        return slot;
+    }
+
+    private int find(long msb, long lsb) {
+        int mask = counts.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (counts[slot] != 0) {
+            if (msbs[slot] == msb && lsbs[slot] == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void move(int from, int to) {
+        msbs[to] = msbs[from];
+        lsbs[to] = lsbs[from];
+        System.arraycopy(times, from * KEEP, times, to * KEEP, KEEP);
+        counts[to] = counts[from];
+        counts[from] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        long[] oldTimes = times;
+        byte[] oldCounts = counts;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldCounts.length; i++) {
+            if (oldCounts[i] == 0) continue;
+            int slot = hash(oldMsbs[i], oldLsbs[i]) & mask;
+            while (counts[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            msbs[slot] = oldMsbs[i];
+            lsbs[slot] = oldLsbs[i];
+            System.arraycopy(oldTimes, i * KEEP, times, slot * KEEP, KEEP);
+            counts[slot] = oldCounts[i];
+            size++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        times = new long[capacity * KEEP];
+        counts = new byte[capacity];
+        size = 0;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private final class View extends AbstractMap<UUID, List<Long>> {
+        private final Set<Map.Entry<UUID, List<Long>>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<UUID, List<Long>>> iterator() {
+                return new Iterator<>() {
+                    private int next = advance(0);
+
+                    private int advance(int from) {
+                        while (from < counts.length && counts[from] == 0) from++;
+                        return from;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < counts.length;
+                    }
+
+                    @Override
+                    public Map.Entry<UUID, List<Long>> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        int slot = next;
+                        next = advance(slot + 1);
+                        return Map.entry(new UUID(msbs[slot], lsbs[slot]), valuesAt(slot));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+
+        @Override
+        public Set<Map.Entry<UUID, List<Long>>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof UUID id && find(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0;
+        }
+
+        @Override
+        public List<Long> get(Object key) {
+            if (!(key instanceof UUID id)) return null;
+            int slot = find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return slot < 0 ? null : valuesAt(slot);
+        }
+    }
+}
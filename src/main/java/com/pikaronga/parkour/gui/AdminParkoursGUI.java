@@ -4,7 +4,6 @@ import com.pikaronga.parkour.course.ParkourCourse;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -15,7 +14,7 @@ import java.util.List;
 public class AdminParkoursGUI {
     public static final String TITLE = ChatColor.DARK_GREEN + "All Player Parkours";
 
-    public static Inventory build(List<ParkourCourse> courses) {
+    public static Inventory build(List<ParkourCourse> courses, com.pikaronga.parkour.player.PlayerNameService names) {
         int size = ((Math.min(courses.size(), 54) + 8) / 9) * 9;
         if (size <= 0) size = 9;
         Inventory inv = Bukkit.createInventory(new PluginGuiHolder("admin"), size, TITLE);
@@ -30,8 +29,7 @@ public class AdminParkoursGUI {
                 if (!c.getCreators().isEmpty()) {
                     StringBuilder creators = new StringBuilder();
                     for (int idx = 0; idx < c.getCreators().size(); idx++) {
-                        OfflinePlayer op = Bukkit.getOfflinePlayer(c.getCreators().get(idx));
-                        creators.append(op.getName() != null ? op.getName() : c.getCreators().get(idx).toString().substring(0,8));
+                        creators.append(names.displayName(c.getCreators().get(idx)));
                         if (idx < c.getCreators().size() - 1) creators.append(", ");
                     }
                     lore.add(ChatColor.GRAY + "By: " + ChatColor.AQUA + creators);
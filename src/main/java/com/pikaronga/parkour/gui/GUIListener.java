@@ -58,7 +58,7 @@ public class GUIListener implements Listener {
                 if (raw == prevSlotCfg) {
                     GuiState state = GuiState.fromTitle(title);
                     int newPage = Math.max(1, state.page - 1);
-                    PublishedParkoursGUI.open(player, plugin, new java.util.ArrayList<>(plugin.getParkourManager().getCourses().values()), state.sort, newPage);
+                    PublishedParkoursGUI.open(player, plugin, state.sort, newPage);
                     return;
                 }
                 if (raw == myPlotsSlotCfg) {
@@ -67,13 +67,13 @@ public class GUIListener implements Listener {
                 }
                 if (raw == nextSlotCfg) {
                     GuiState state = GuiState.fromTitle(title);
-                    PublishedParkoursGUI.open(player, plugin, new java.util.ArrayList<>(plugin.getParkourManager().getCourses().values()), state.sort, state.page + 1);
+                    PublishedParkoursGUI.open(player, plugin, state.sort, state.page + 1);
                     return;
                 }
                 if (raw == sortSlotCfg) {
                     GuiState state = GuiState.fromTitle(title);
                     String nextSort = nextSort(state.sort);
-                    PublishedParkoursGUI.open(player, plugin, new java.util.ArrayList<>(plugin.getParkourManager().getCourses().values()), nextSort, 1);
+                    PublishedParkoursGUI.open(player, plugin, nextSort, 1);
                     return;
                 }
             } catch (Throwable ignored) {}
@@ -81,7 +81,7 @@ public class GUIListener implements Listener {
             if (clicked.getType() == Material.PAPER && ChatColor.stripColor(clicked.getItemMeta().getDisplayName()).equalsIgnoreCase("Previous")) {
                 GuiState state = GuiState.fromTitle(title);
                 int newPage = Math.max(1, state.page - 1);
-                PublishedParkoursGUI.open(player, plugin, new java.util.ArrayList<>(plugin.getParkourManager().getCourses().values()), state.sort, newPage);
+                PublishedParkoursGUI.open(player, plugin, state.sort, newPage);
                 return;
             }
             if (clicked.getType() == Material.BOOK && ChatColor.stripColor(clicked.getItemMeta().getDisplayName()).equalsIgnoreCase("My Parkours")) {
@@ -90,13 +90,13 @@ public class GUIListener implements Listener {
             }
             if (clicked.getType() == Material.PAPER && ChatColor.stripColor(clicked.getItemMeta().getDisplayName()).equalsIgnoreCase("Next")) {
                 GuiState state = GuiState.fromTitle(title);
-                PublishedParkoursGUI.open(player, plugin, new java.util.ArrayList<>(plugin.getParkourManager().getCourses().values()), state.sort, state.page + 1);
+                PublishedParkoursGUI.open(player, plugin, state.sort, state.page + 1);
                 return;
             }
             if (clicked.getType() == Material.COMPARATOR) {
                 GuiState state = GuiState.fromTitle(title);
                 String nextSort = nextSort(state.sort);
-                PublishedParkoursGUI.open(player, plugin, new java.util.ArrayList<>(plugin.getParkourManager().getCourses().values()), nextSort, 1);
+                PublishedParkoursGUI.open(player, plugin, nextSort, 1);
                 return;
             }
             String courseTag = null;
@@ -159,7 +159,7 @@ public class GUIListener implements Listener {
                     return;
                 }
                 if (raw == browseSlotCfg) {
-                    PublishedParkoursGUI.open(player, plugin, new java.util.ArrayList<>(plugin.getParkourManager().getCourses().values()), "looks:desc", 1);
+                    PublishedParkoursGUI.open(player, plugin, "looks:desc", 1);
                     return;
                 }
                 if (raw == createSlotCfg) {
@@ -180,7 +180,7 @@ public class GUIListener implements Listener {
                 return;
             }
             if (clicked.getType() == Material.COMPASS && ChatColor.stripColor(clicked.getItemMeta().getDisplayName()).equalsIgnoreCase("Browse Published")) {
-                PublishedParkoursGUI.open(player, plugin, new java.util.ArrayList<>(plugin.getParkourManager().getCourses().values()), "looks:desc", 1);
+                PublishedParkoursGUI.open(player, plugin, "looks:desc", 1);
                 return;
             }
             if (clicked.getType() == Material.EMERALD_BLOCK && ChatColor.stripColor(clicked.getItemMeta().getDisplayName()).equalsIgnoreCase("Create New")) {
@@ -371,7 +371,6 @@ public class GUIListener implements Listener {
                 plugin.getPlayerParkourManager().resetPlotForCourseBatched(course, 512, () -> {
                     plugin.getParkourManager().removeCourse(course.getName());
                     try { plugin.getStorage().deleteCourseByNameAsync(course.getName(), null); } catch (Throwable ignored) {}
-                    try { plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses()); } catch (Throwable ignored) {}
                     org.bukkit.Bukkit.getScheduler().runTask(plugin, () -> {
                         player.closeInventory();
                         player.sendMessage(plugin.getMessageManager().getMessage("delete-success", "&aDeleted parkour &f{course}&a.", java.util.Map.of("course", course.getName())));
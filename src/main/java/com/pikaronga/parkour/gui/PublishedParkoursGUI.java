@@ -2,32 +2,39 @@ package com.pikaronga.parkour.gui;
 
 import com.pikaronga.parkour.ParkourPlugin;
 import com.pikaronga.parkour.course.ParkourCourse;
+import com.pikaronga.parkour.util.PublishedCourseIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 public class PublishedParkoursGUI {
     public static final String TITLE_PREFIX = ChatColor.DARK_AQUA + "Player Parkours";
 
-    public static void open(Player player, ParkourPlugin plugin, List<ParkourCourse> allCourses, String sort, int page) {
-        List<ParkourCourse> courses = new ArrayList<>(allCourses);
-        courses.removeIf(pc -> !pc.isPublished());
+    public static void open(Player player, ParkourPlugin plugin, String sort, int page) {
         SortSpec spec = normalizeSort(sort);
-        sortCourses(courses, spec);
+        // Pre-sorted by the manager; build() only reads the requested page
+        List<ParkourCourse> courses = plugin.getParkourManager().getPublishedIndex().sorted(spec.sort(), spec.ascending);
         Inventory inv = build(plugin, courses, spec, page);
         player.openInventory(inv);
     }
 
-    private record SortSpec(String key, boolean ascending) {}
+    private record SortSpec(String key, boolean ascending) {
+        // Descending is the same view read backwards: looks best->worst, difficulty hard->easy, name Z->A, created newest->oldest
+        PublishedCourseIndex.Sort sort() {
+            return switch (key) {
+                case "difficulty" -> PublishedCourseIndex.Sort.DIFFICULTY;
+                case "name" -> PublishedCourseIndex.Sort.NAME;
+                case "created" -> PublishedCourseIndex.Sort.CREATED;
+                default -> PublishedCourseIndex.Sort.LOOKS;
+            };
+        }
+    }
 
     private static SortSpec normalizeSort(String s) {
         if (s == null || s.isBlank()) return new SortSpec("looks", false); // default: best -> worst
@@ -49,31 +56,6 @@ public class PublishedParkoursGUI {
         return new SortSpec(key, asc);
     }
 
-    private static void sortCourses(List<ParkourCourse> courses, SortSpec spec) {
-        Comparator<ParkourCourse> cmp;
-        switch (spec.key) {
-            case "looks" -> cmp = Comparator.comparingDouble(ParkourCourse::getAverageLookRating)
-                    .thenComparing(ParkourCourse::getName, String.CASE_INSENSITIVE_ORDER);
-            case "difficulty" -> cmp = Comparator.comparingDouble(PublishedParkoursGUI::playerDifficulty)
-                    .thenComparing(ParkourCourse::getName, String.CASE_INSENSITIVE_ORDER);
-            case "name" -> cmp = Comparator.comparing(ParkourCourse::getName, String.CASE_INSENSITIVE_ORDER);
-            case "created" -> cmp = Comparator.comparingInt(ParkourCourse::getCreatedOrder)
-                    .thenComparing(ParkourCourse::getName, String.CASE_INSENSITIVE_ORDER);
-            default -> cmp = Comparator.comparingDouble(ParkourCourse::getAverageLookRating)
-                    .thenComparing(ParkourCourse::getName, String.CASE_INSENSITIVE_ORDER);
-        }
-        if (!spec.ascending) {
-            // Descending for looks (best->worst), difficulty (hard->easy), name (Z->A), created (newest->oldest)
-            cmp = cmp.reversed();
-        }
-        courses.sort(cmp);
-    }
-
-    private static double playerDifficulty(ParkourCourse c) {
-        double avg = c.getAverageDifficultyRating();
-        return Math.max(0.0, avg);
-    }
-
     private static String formatDifficulty(ParkourCourse c) {
         double avg = c.getAverageDifficultyRating();
         return (avg <= 0.0) ? "N/A" : String.format("%.1f/5", avg);
@@ -100,8 +82,7 @@ public class PublishedParkoursGUI {
                 if (!c.getCreators().isEmpty()) {
                     StringBuilder cs = new StringBuilder();
                     for (int idx = 0; idx < c.getCreators().size(); idx++) {
-                        OfflinePlayer op = Bukkit.getOfflinePlayer(c.getCreators().get(idx));
-                        cs.append(op.getName() != null ? op.getName() : c.getCreators().get(idx).toString().substring(0, 8));
+                        cs.append(plugin.getNameService().displayName(c.getCreators().get(idx)));
                         if (idx < c.getCreators().size() - 1) cs.append(", ");
                     }
                     creators = cs.toString();
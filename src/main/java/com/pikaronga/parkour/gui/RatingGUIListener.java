@@ -32,9 +32,12 @@ public class RatingGUIListener implements Listener {
             int slotL = plugin.getGuiConfig().slot("rating", "looks." + i, 9 + i);
             if (clickedSlot == slotL) {
                 if (isCreator) { player.closeInventory(); return; } // creators cannot rate looks
-                course.setLookRating(player.getUniqueId(), i);
-                try { plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses()); } catch (Throwable ignored) {}
-                player.sendMessage(plugin.getMessageManager().getMessage("rating-thanks", "&aThanks for rating &f{course}&a!", java.util.Map.of("course", course.getName())));
+                int look = i;
+                // The player's previous rating must be in memory to keep the aggregate right
+                plugin.getCacheManager().withLoaded(course, () -> {
+                    course.setLookRating(player.getUniqueId(), look);
+                    player.sendMessage(plugin.getMessageManager().getMessage("rating-thanks", "&aThanks for rating &f{course}&a!", java.util.Map.of("course", course.getName())));
+                });
                 player.closeInventory();
                 return;
             }
@@ -42,9 +45,11 @@ public class RatingGUIListener implements Listener {
         for (int i = 1; i <= 5; i++) {
             int slotD = plugin.getGuiConfig().slot("rating", "difficulty." + i, 9 + 4 + i);
             if (clickedSlot == slotD) {
-                course.setDifficultyRating(player.getUniqueId(), i);
-                try { plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses()); } catch (Throwable ignored) {}
-                player.sendMessage(plugin.getMessageManager().getMessage("rating-thanks", "&aThanks for rating &f{course}&a!", java.util.Map.of("course", course.getName())));
+                int difficulty = i;
+                plugin.getCacheManager().withLoaded(course, () -> {
+                    course.setDifficultyRating(player.getUniqueId(), difficulty);
+                    player.sendMessage(plugin.getMessageManager().getMessage("rating-thanks", "&aThanks for rating &f{course}&a!", java.util.Map.of("course", course.getName())));
+                });
                 player.closeInventory();
                 return;
             }
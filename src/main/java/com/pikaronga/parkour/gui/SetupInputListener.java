@@ -89,7 +89,6 @@ public class SetupInputListener implements Listener {
             return;
         }
         course.setMaxFallDistance(value);
-        try { plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses()); } catch (Throwable ignored) {}
         awaitingMaxFall.remove(id);
         event.getPlayer().sendMessage(plugin.getMessageManager().getMessage("setup-maxfall-success", "&aSet max fall distance for &f{course}&a to &f{distance}", java.util.Map.of("course", course.getName(), "distance", Double.toString(value))));
         // Re-open setup GUI next tick
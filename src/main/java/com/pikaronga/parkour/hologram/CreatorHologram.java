@@ -2,7 +2,6 @@ package com.pikaronga.parkour.hologram;
 
 import com.pikaronga.parkour.config.HologramTextProvider;
 import com.pikaronga.parkour.course.ParkourCourse;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
 
@@ -16,49 +15,51 @@ public class CreatorHologram {
     private final Hologram hologram;
     private final HologramTextProvider textProvider;
     private final org.bukkit.plugin.Plugin plugin;
+    private final com.pikaronga.parkour.player.PlayerNameService names;
 
-    public CreatorHologram(ParkourCourse course, Location location, HologramTextProvider textProvider, NamespacedKey hologramKey, org.bukkit.plugin.Plugin plugin) {
+    public CreatorHologram(ParkourCourse course, Location location, HologramTextProvider textProvider, NamespacedKey hologramKey, org.bukkit.plugin.Plugin plugin,
+                           com.pikaronga.parkour.player.PlayerNameService names) {
         this.course = course;
         this.textProvider = textProvider;
         this.plugin = plugin;
+        this.names = names;
         this.hologram = new Hologram(location, hologramKey, identifier(course), plugin);
-        List<String> lines = new ArrayList<>();
-        lines.add(textProvider.formatCreatorsHeader(course.getName()));
-        if (course.getCreators().isEmpty()) {
-            lines.add(textProvider.formatCreatorEntry("Unknown", course.getName()));
-        } else {
-            for (UUID id : course.getCreators()) {
-                String name = Bukkit.getOfflinePlayer(id).getName();
-                if (name == null || name.isBlank()) {
-                    name = id.toString().substring(0, 8);
-                }
-                lines.add(textProvider.formatCreatorEntry(name, course.getName()));
-            }
-        }
-        this.hologram.spawn(lines);
+        this.hologram.spawn(buildLines());
     }
 
     public void update() {
+        hologram.update(buildLines());
+    }
+
+    private List<String> buildLines() {
         List<String> lines = new ArrayList<>();
         lines.add(textProvider.formatCreatorsHeader(course.getName()));
         if (course.getCreators().isEmpty()) {
             lines.add(textProvider.formatCreatorEntry("Unknown", course.getName()));
         } else {
             for (UUID id : course.getCreators()) {
-                String name = Bukkit.getOfflinePlayer(id).getName();
-                if (name == null || name.isBlank()) {
-                    name = id.toString().substring(0, 8);
-                }
-                lines.add(textProvider.formatCreatorEntry(name, course.getName()));
+                lines.add(textProvider.formatCreatorEntry(names.displayName(id), course.getName()));
             }
         }
-        hologram.update(lines);
+        return lines;
     }
 
     public void destroy() {
         hologram.despawn();
     }
 
+    public void unloadEntities() {
+        hologram.unloadEntities();
+    }
+
+    public void respawn() {
+        hologram.respawn();
+    }
+
+    public boolean isInChunk(org.bukkit.World world, int chunkX, int chunkZ) {
+        return hologram.isInChunk(world, chunkX, chunkZ);
+    }
+
     private String identifier(ParkourCourse course) {
         return "creator:" + course.getName().toLowerCase(Locale.ROOT);
     }
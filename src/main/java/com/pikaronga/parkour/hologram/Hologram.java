@@ -1,14 +1,12 @@
 package com.pikaronga.parkour.hologram;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.WorldCreator;
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
-import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Entity;
 import org.bukkit.persistence.PersistentDataType;
 
 import java.util.ArrayList;
@@ -21,24 +19,40 @@ public class Hologram {
     private static final double LINE_SPACING = 0.3D;
 
     private final Location baseLocation;
-    private final List<ArmorStand> armorStands = new ArrayList<>();
+    private final List<Entity> armorStands = new ArrayList<>();
     private final NamespacedKey dataKey;
     private final String identifier;
     private final org.bukkit.plugin.Plugin plugin;
+    private final HologramBackend backend;
+    // Last requested lines, so display-backed holograms can be rebuilt when their chunk loads again
+    private List<String> lastLines = new ArrayList<>();
+    // Parsed form of lastLines, index for index
+    private List<Component> lastComponents = new ArrayList<>();
+    // Text each entity in armorStands currently shows (null = blank), so update() only renames changed lines
+    private final List<String> shown = new ArrayList<>();
 
     public Hologram(Location baseLocation, NamespacedKey dataKey, String identifier, org.bukkit.plugin.Plugin plugin) {
         this.baseLocation = baseLocation.clone();
         this.dataKey = dataKey;
         this.identifier = identifier;
         this.plugin = plugin;
+        this.backend = HologramBackend.of(plugin);
     }
 
-    
-
     public void spawn(List<String> lines) {
         despawn();
+        remember(lines);
+        if (!backend.forceLoadsChunks()) {
+            // Display lines are non-persistent: only spawn into a loaded chunk, HologramManager respawns on chunk load
+            World world = baseLocation.getWorld();
+            if (world == null || !world.isChunkLoaded(baseLocation.getBlockX() >> 4, baseLocation.getBlockZ() >> 4)) {
+                return;
+            }
+        }
         // Keep the hologram chunk loaded while we spawn entities
-        try { forceLoadChunk(true); } catch (Throwable ignored) {}
+        if (backend.forceLoadsChunks()) {
+            try { forceLoadChunk(true); } catch (Throwable ignored) {}
+        }
         // Ensure world and chunk are loaded for the base location
         if (!ensureWorldAndChunkLoaded(baseLocation)) {
             try { if (debugEnabled()) plugin.getLogger().info("Hologram.spawn: base location world/chunk not ready for " + baseLocation); } catch (Throwable ignored) {}
@@ -48,12 +62,13 @@ public class Hologram {
         World world = baseLocation.getWorld();
         Location current = baseLocation.clone();
         for (int index = 0; index < lines.size(); index++) {
-            ArmorStand stand = spawnLine(world, current, lines.get(index));
+            Entity stand = HologramEntities.spawnLine(backend, world, current, lastComponents.get(index), false);
             if (stand == null) {
                 continue;
             }
             markStand(stand, index);
             armorStands.add(stand);
+            shown.add(lines.get(index));
             current = current.clone().add(0, -LINE_SPACING, 0);
         }
         
@@ -64,96 +79,112 @@ public class Hologram {
             spawn(lines);
             return;
         }
+        remember(lines);
         int index = 0;
         for (; index < armorStands.size(); index++) {
-            ArmorStand stand = armorStands.get(index);
-            if (index < lines.size()) {
-                applyName(stand, lines.get(index));
+            String text = index < lines.size() ? lines.get(index) : null;
+            // Unchanged lines send no metadata update
+            if (java.util.Objects.equals(text, shown.get(index))) {
+                continue;
+            }
+            Entity stand = armorStands.get(index);
+            if (text != null) {
+                HologramEntities.setText(stand, lastComponents.get(index));
             } else {
-                applyEmptyName(stand);
+                HologramEntities.setEmpty(stand);
             }
-            markStand(stand, index);
+            shown.set(index, text);
         }
         if (lines.size() > armorStands.size()) {
-            Location current = armorStands.get(armorStands.size() - 1).getLocation().clone().add(0, -LINE_SPACING, 0);
-            List<String> extra = lines.subList(armorStands.size(), lines.size());
+            Location current = baseLocation.clone().add(0, -LINE_SPACING * armorStands.size(), 0);
             World world = baseLocation.getWorld();
             if (world == null) {
                 return;
             }
-            for (String line : extra) {
-                ArmorStand stand = spawnLine(world, current, line);
+            for (int line = armorStands.size(); line < lines.size(); line++) {
+                Entity stand = HologramEntities.spawnLine(backend, world, current, lastComponents.get(line), false);
                 if (stand == null) {
                     continue;
                 }
                 markStand(stand, index++);
                 armorStands.add(stand);
+                shown.add(lines.get(line));
                 current = current.clone().add(0, -LINE_SPACING, 0);
             }
         }
     }
 
+    /**
+     * Stores the requested lines with their parsed Components, re-parsing only lines that changed.
+     */
+    private void remember(List<String> lines) {
+        List<Component> components = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            boolean same = i < lastLines.size() && line.equals(lastLines.get(i));
+            components.add(same ? lastComponents.get(i) : HologramEntities.parse(line));
+        }
+        lastLines = new ArrayList<>(lines);
+        lastComponents = components;
+    }
+
     public void despawn() {
         // Release any force-loading of the hologram chunk
-        try { forceLoadChunk(false); } catch (Throwable ignored) {}
-        for (ArmorStand stand : armorStands) {
+        if (backend.forceLoadsChunks()) {
+            try { forceLoadChunk(false); } catch (Throwable ignored) {}
+        }
+        for (Entity stand : armorStands) {
             stand.remove();
         }
         armorStands.clear();
+        shown.clear();
     }
 
-    public Location getBaseLocation() {
-        return baseLocation;
+    /**
+     * Chunk is unloading: drop display entities but keep the lines so {@link #respawn()} can rebuild them.
+     * No-op for armor stands, whose chunk stays ticketed.
+     */
+    public void unloadEntities() {
+        if (backend.forceLoadsChunks()) return;
+        for (Entity stand : armorStands) {
+            try { stand.remove(); } catch (Throwable ignored) {}
+        }
+        armorStands.clear();
+        shown.clear();
     }
 
-    public List<UUID> getArmorStandEntityIds() {
-        List<UUID> ids = new ArrayList<>(armorStands.size());
-        for (ArmorStand stand : armorStands) {
-            ids.add(stand.getUniqueId());
+    public void respawn() {
+        if (armorStands.isEmpty() && !lastLines.isEmpty()) {
+            spawn(lastLines);
         }
-        return ids;
     }
 
-    private ArmorStand spawnLine(World world, Location location, String line) {
-        if (world == null) return null;
-        try {
-            try { if (!location.getChunk().isLoaded()) location.getChunk().load(); } catch (Throwable ignored) {}
+    public boolean isInChunk(World world, int chunkX, int chunkZ) {
+        return baseLocation.getWorld() != null && baseLocation.getWorld().equals(world)
+                && (baseLocation.getBlockX() >> 4) == chunkX && (baseLocation.getBlockZ() >> 4) == chunkZ;
+    }
 
-            ArmorStand stand = world.spawn(location, ArmorStand.class, a -> {
-                a.setGravity(false);
-                a.setSmall(true);
-                a.setBasePlate(false);
-                a.setInvulnerable(true);
-                a.setPersistent(true);
-                a.setSilent(true);
-                try { a.setRemoveWhenFarAway(false); } catch (Throwable ignored) {}
+    /**
+     * Lines last passed to {@link #spawn} or {@link #update}, whether or not they are currently spawned.
+     */
+    public List<String> getLines() {
+        return java.util.Collections.unmodifiableList(lastLines);
+    }
 
-                // Apply name first, then make invisible so client properly shows the nameplate
-                try { a.customName(LegacyComponentSerializer.legacySection().deserialize(line)); } catch (Throwable t) { try { a.setCustomName(line); } catch (Throwable ignored) {} }
-                try { a.setCustomNameVisible(true); } catch (Throwable ignored) {}
-                try { a.setInvisible(true); } catch (Throwable ignored) {}
-            });
+    public Location getBaseLocation() {
+        return baseLocation;
+    }
 
-            if (stand == null) return null;
-            return stand;
-        } catch (Throwable t) {
-            try {
-                ArmorStand stand = (ArmorStand) world.spawnEntity(location, EntityType.ARMOR_STAND);
-                stand.setGravity(false);
-                stand.setSmall(true);
-                stand.setBasePlate(false);
-                stand.setInvulnerable(true);
-                stand.setPersistent(true);
-                stand.setSilent(true);
-                try { stand.setRemoveWhenFarAway(false); } catch (Throwable ignored) {}
-                try { stand.customName(LegacyComponentSerializer.legacySection().deserialize(line)); } catch (Throwable t2) { try { stand.setCustomName(line); } catch (Throwable ignored) {} }
-                try { stand.setCustomNameVisible(true); } catch (Throwable ignored) {}
-                try { stand.setInvisible(true); } catch (Throwable ignored) {}
-                return stand;
-            } catch (Throwable ex) {
-                return null;
-            }
+    public boolean isSpawned() {
+        return !armorStands.isEmpty();
+    }
+
+    public List<UUID> getArmorStandEntityIds() {
+        List<UUID> ids = new ArrayList<>(armorStands.size());
+        for (Entity stand : armorStands) {
+            ids.add(stand.getUniqueId());
         }
+        return ids;
     }
 
     private void forceLoadChunk(boolean force) {
@@ -229,7 +260,7 @@ public class Hologram {
 
     // No ProtocolLib present at compile time; we use a hide/show-with-delay per-player workaround instead.
 
-    private void markStand(ArmorStand stand, int index) {
+    private void markStand(Entity stand, int index) {
         try {
             stand.addScoreboardTag(HOLOGRAM_TAG);
         } catch (Throwable ignored) {
@@ -241,28 +272,4 @@ public class Hologram {
             }
         }
     }
-
-    private void applyName(ArmorStand stand, String text) {
-        try {
-            Component name = LegacyComponentSerializer.legacySection().deserialize(text);
-            stand.customName(name);
-        } catch (Throwable t) {
-            try {
-                // Fallback to a plain text Component if parsing failed
-                stand.customName(Component.text(text));
-            } catch (Throwable ignored) {
-            }
-        }
-    }
-
-    private void applyEmptyName(ArmorStand stand) {
-        try {
-            stand.customName(Component.space());
-        } catch (Throwable t) {
-            try {
-                stand.customName(Component.space());
-            } catch (Throwable ignored) {
-            }
-        }
-    }
 }
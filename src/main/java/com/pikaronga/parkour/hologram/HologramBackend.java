@@ -0,0 +1,36 @@
+package com.pikaronga.parkour.hologram;
+
+import java.util.Locale;
+
+/**
+ * How hologram lines are rendered (config: {@code holograms.backend}).
+ * ARMOR_STAND spawns persistent invisible armor stands and keeps their chunk loaded with a plugin ticket.
+ * TEXT_DISPLAY spawns non-persistent {@code TextDisplay} entities that are never saved and never force-load
+ * chunks; they are respawned when the chunk loads again.
+ */
+public enum HologramBackend {
+    ARMOR_STAND,
+    TEXT_DISPLAY;
+
+    public boolean forceLoadsChunks() {
+        return this == ARMOR_STAND;
+    }
+
+    public static HologramBackend fromConfig(String value) {
+        if (value == null) return TEXT_DISPLAY;
+        String v = value.trim().toLowerCase(Locale.ROOT).replace('-', '_');
+        return switch (v) {
+            case "armor_stand", "armorstand", "legacy" -> ARMOR_STAND;
+            default -> TEXT_DISPLAY;
+        };
+    }
+
+    static HologramBackend of(org.bukkit.plugin.Plugin plugin) {
+        try {
+            if (plugin instanceof com.pikaronga.parkour.ParkourPlugin p && p.getConfigManager() != null) {
+                return p.getConfigManager().hologramBackend();
+            }
+        } catch (Throwable ignored) {}
+        return TEXT_DISPLAY;
+    }
+}
@@ -0,0 +1,133 @@
+package com.pikaronga.parkour.hologram;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.TextDisplay;
+
+/**
+ * Spawning and renaming of single hologram lines for either {@link HologramBackend}.
+ */
+final class HologramEntities {
+
+    // Small armor stand nameplates render about a block above the stand; text displays render at their origin.
+    static final double DISPLAY_Y_OFFSET = 1.0D;
+
+    private HologramEntities() {
+    }
+
+    static Entity spawnLine(HologramBackend backend, World world, Location location, String line) {
+        return spawnLine(backend, world, location, line, false);
+    }
+
+    /**
+     * @param perViewer spawn hidden from everyone (show it with {@code Player#showEntity}) and never persisted
+     */
+    static Entity spawnLine(HologramBackend backend, World world, Location location, String line, boolean perViewer) {
+        return spawnLine(backend, world, location, parse(line), perViewer);
+    }
+
+    /**
+     * Same as {@link #spawnLine(HologramBackend, World, Location, String, boolean)} with text already parsed by {@link #parse}.
+     */
+    static Entity spawnLine(HologramBackend backend, World world, Location location, Component line, boolean perViewer) {
+        if (world == null) return null;
+        return backend == HologramBackend.TEXT_DISPLAY
+                ? spawnDisplay(world, location, line, perViewer)
+                : spawnArmorStand(world, location, line, perViewer);
+    }
+
+    /**
+     * Legacy {@code §}-coded text as a Component; plain text if it does not parse.
+     */
+    static Component parse(String text) {
+        try {
+            return LegacyComponentSerializer.legacySection().deserialize(text);
+        } catch (Throwable t) {
+            return Component.text(text);
+        }
+    }
+
+    static void setText(Entity entity, String text) {
+        setText(entity, parse(text));
+    }
+
+    static void setText(Entity entity, Component name) {
+        try {
+            if (entity instanceof TextDisplay display) {
+                display.text(name);
+            } else {
+                entity.customName(name);
+            }
+        } catch (Throwable ignored) {
+        }
+    }
+
+    static void setEmpty(Entity entity) {
+        setText(entity, entity instanceof TextDisplay ? Component.empty() : Component.space());
+    }
+
+    private static TextDisplay spawnDisplay(World world, Location location, Component line, boolean perViewer) {
+        try {
+            Location at = location.clone().add(0, DISPLAY_Y_OFFSET, 0);
+            return world.spawn(at, TextDisplay.class, d -> {
+                // Never saved with the chunk, so nothing to sweep on restart
+                d.setPersistent(false);
+                if (perViewer) d.setVisibleByDefault(false);
+                d.setBillboard(Display.Billboard.CENTER);
+                d.setAlignment(TextDisplay.TextAlignment.CENTER);
+                d.setLineWidth(1000);
+                try { d.setInvulnerable(true); } catch (Throwable ignored) {}
+                try { d.setSilent(true); } catch (Throwable ignored) {}
+                try { d.text(line); } catch (Throwable ignored) {}
+            });
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static ArmorStand spawnArmorStand(World world, Location location, Component line, boolean perViewer) {
+        try {
+            try { if (!location.getChunk().isLoaded()) location.getChunk().load(); } catch (Throwable ignored) {}
+
+            return world.spawn(location, ArmorStand.class, a -> {
+                a.setGravity(false);
+                a.setSmall(true);
+                a.setBasePlate(false);
+                a.setInvulnerable(true);
+                a.setPersistent(!perViewer);
+                a.setSilent(true);
+                if (perViewer) a.setVisibleByDefault(false);
+                try { a.setRemoveWhenFarAway(false); } catch (Throwable ignored) {}
+
+                // Apply name first, then make invisible so client properly shows the nameplate
+                try { a.customName(line); } catch (Throwable t) { try { a.setCustomName(LegacyComponentSerializer.legacySection().serialize(line)); } catch (Throwable ignored) {} }
+                try { a.setCustomNameVisible(true); } catch (Throwable ignored) {}
+                try { a.setInvisible(true); } catch (Throwable ignored) {}
+            });
+        } catch (Throwable t) {
+            try {
+                ArmorStand stand = (ArmorStand) world.spawnEntity(location, EntityType.ARMOR_STAND);
+                stand.setGravity(false);
+                stand.setSmall(true);
+                stand.setBasePlate(false);
+                stand.setInvulnerable(true);
+                stand.setPersistent(!perViewer);
+                stand.setSilent(true);
+                if (perViewer) stand.setVisibleByDefault(false);
+                try { stand.setRemoveWhenFarAway(false); } catch (Throwable ignored) {}
+                try { stand.customName(line); } catch (Throwable t2) { try { stand.setCustomName(LegacyComponentSerializer.legacySection().serialize(line)); } catch (Throwable ignored) {} }
+                try { stand.setCustomNameVisible(true); } catch (Throwable ignored) {}
+                try { stand.setInvisible(true); } catch (Throwable ignored) {}
+                return stand;
+            } catch (Throwable ex) {
+                return null;
+            }
+        }
+    }
+}
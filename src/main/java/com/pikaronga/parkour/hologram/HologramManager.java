@@ -12,6 +12,9 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
@@ -27,12 +30,25 @@ public class HologramManager implements Listener {
     private final ParkourPlugin plugin;
     private final com.pikaronga.parkour.util.ParkourManager parkourManager;
     private final HologramTextProvider textProvider;
+    private final TopLinesRenderer topRenderer;
     private final NamespacedKey hologramKey;
     private final Map<String, Hologram> topHolograms = new HashMap<>();
     private final Map<String, PersonalBestHologram> bestHolograms = new HashMap<>();
     private final Map<String, CreatorHologram> creatorHolograms = new HashMap<>();
+    // Chunk keys (x/z packed, world-agnostic) holding at least one hologram; filters chunk events cheaply
+    private final java.util.Set<Long> hologramChunks = new java.util.HashSet<>();
+    // Pending personal-best refreshes (course key + player), drained under the per-tick budget
+    private final java.util.LinkedHashSet<PendingBest> dirtyBests = new java.util.LinkedHashSet<>();
+    // Round-robin cursor for the view-range sweep over (hologram x online player)
+    private java.util.List<PersonalBestHologram> sweepHolograms = java.util.Collections.emptyList();
+    private java.util.List<Player> sweepPlayers = java.util.Collections.emptyList();
+    private int sweepHologramIndex = 0;
+    private int sweepPlayerIndex = 0;
     private BukkitTask task;
 
+    private record PendingBest(String courseKey, UUID player) {
+    }
+
     public HologramManager(ParkourPlugin plugin,
                            com.pikaronga.parkour.util.ParkourManager parkourManager,
                            HologramTextProvider textProvider,
@@ -40,14 +56,26 @@ public class HologramManager implements Listener {
         this.plugin = plugin;
         this.parkourManager = parkourManager;
         this.textProvider = textProvider;
+        this.topRenderer = new TopLinesRenderer(plugin, textProvider);
         this.hologramKey = hologramKey;
     }
 
     public void spawnConfiguredHolograms() {
         plugin.getLogger().info("Spawning configured holograms for loaded courses.");
+        boolean displays = !backend().forceLoadsChunks();
+        boolean clearForceLoads = displays && isMaintenancePending(com.pikaronga.parkour.storage.DatabaseManager.TASK_CLEAR_LEGACY_FORCELOAD);
         for (ParkourCourse course : parkourManager.getCourses().values()) {
+            if (displays) {
+                // Left-over persistent armor stands from the legacy backend, only around our own locations;
+                // chunks that load later are cleaned in onEntitiesLoad
+                try { purgeNearbyTagged(loadedOrNull(course.getTopHologramLocation())); } catch (Throwable ignored) {}
+                try { purgeNearbyTagged(loadedOrNull(course.getBestHologramLocation())); } catch (Throwable ignored) {}
+                try { purgeNearbyTagged(loadedOrNull(course.getCreatorHologramLocation())); } catch (Throwable ignored) {}
+            }
+            if (clearForceLoads) clearLegacyForceLoad(course.getBestHologramLocation());
             createHolograms(course);
         }
+        if (clearForceLoads) plugin.getStorage().completeMaintenance(com.pikaronga.parkour.storage.DatabaseManager.TASK_CLEAR_LEGACY_FORCELOAD);
         startUpdater();
     }
 
@@ -83,6 +111,7 @@ public class HologramManager implements Listener {
             handleTopHologram(course, key, forceRespawn);
             handleBestHologram(course, key, forceRespawn);
             handleCreatorHologram(course, key, forceRespawn);
+            reindexChunks();
         });
     }
 
@@ -93,8 +122,15 @@ public class HologramManager implements Listener {
             if (!isLocationReady(location, course, "top")) {
                 return;
             }
+            if (!course.isDetailsLoaded()) {
+                // Times are paged out: keep what is shown and re-render once the load callback fires
+                plugin.getCacheManager().ensureLoaded(course);
+                if (!forceRespawn && top != null && isSameLocation(top.getBaseLocation(), location)) {
+                    return;
+                }
+            }
             int limit = course.getCreators().isEmpty() ? 10 : plugin.getConfigManager().getTopHologramSize();
-            java.util.List<String> lines = course.createTopLinesWithLimit(textProvider, limit);
+            TopLinesRenderer.Snapshot snapshot = TopLinesRenderer.snapshot(course, limit, plugin.getNameService()::getName);
             boolean respawn = forceRespawn || top == null || !isSameLocation(top.getBaseLocation(), location);
             if (respawn) {
                 if (top != null) {
@@ -102,21 +138,31 @@ public class HologramManager implements Listener {
                     log(Level.INFO, "Despawning stale top hologram for course " + course.getName() + ".");
                 }
                 Hologram hologram = new Hologram(location, hologramKey, identifierFor(course.getName(), "top"), plugin);
-                hologram.spawn(lines);
+                hologram.spawn(topRenderer.renderNow(key, snapshot));
                 topHolograms.put(key, hologram);
                 logHologramSpawn("top", course, location, hologram.getArmorStandEntityIds());
                 log(Level.INFO, "Spawned top hologram for course " + course.getName() + ".");
             } else {
-                top.update(lines);
-                log(Level.FINE, "Updated top hologram for course " + course.getName() + ".");
+                // Formatted off the main thread; applyTopLines() runs once the text is ready
+                topRenderer.request(key, snapshot, this::applyTopLines);
             }
         } else if (top != null) {
             top.despawn();
             topHolograms.remove(key);
+            topRenderer.forget(key);
             log(Level.INFO, "Removed top hologram for course " + course.getName() + ".");
         }
     }
 
+    private void applyTopLines(String key, java.util.List<String> lines) {
+        Hologram top = topHolograms.get(key);
+        if (top == null || lines.equals(top.getLines())) {
+            return;
+        }
+        top.update(lines);
+        log(Level.FINE, "Updated top hologram for course " + key + ".");
+    }
+
     private void handleBestHologram(ParkourCourse course, String key, boolean forceRespawn) {
         Location location = course.getBestHologramLocation();
         PersonalBestHologram best = bestHolograms.get(key);
@@ -135,8 +181,7 @@ public class HologramManager implements Listener {
                 hologram.getHeaderEntityId().ifPresent(id -> log(Level.INFO, "Spawned personal best hologram for course " + course.getName() + " at " + formatLocation(location) + " (header=" + id + ")"));
                 log(Level.INFO, "Spawned personal best hologram for course " + course.getName() + ".");
             } else {
-                Bukkit.getOnlinePlayers().forEach(best::updateFor);
-                log(Level.FINE, "Updated personal best hologram for course " + course.getName() + ".");
+                log(Level.FINE, "Personal best hologram for course " + course.getName() + " unchanged; per-player lines update on best-time changes.");
             }
         } else if (best != null) {
             best.destroy();
@@ -159,7 +204,7 @@ public class HologramManager implements Listener {
                     creator.destroy();
                     log(Level.INFO, "Despawning stale creator hologram for course " + course.getName() + ".");
                 }
-                CreatorHologram hologram = new CreatorHologram(course, location, textProvider, hologramKey, plugin);
+                CreatorHologram hologram = new CreatorHologram(course, location, textProvider, hologramKey, plugin, plugin.getNameService());
                 creatorHolograms.put(key, hologram);
                 logHologramSpawn("creator", course, location, hologram.getEntityIds());
                 log(Level.INFO, "Spawned creator hologram for course " + course.getName() + ".");
@@ -174,37 +219,140 @@ public class HologramManager implements Listener {
         }
     }
 
+    /**
+     * True if a top or personal-best hologram of the course currently has entities in the world.
+     */
+    public boolean hasSpawnedHolograms(ParkourCourse course) {
+        String key = course.getName().toLowerCase(Locale.ROOT);
+        Hologram top = topHolograms.get(key);
+        PersonalBestHologram best = bestHolograms.get(key);
+        return (top != null && top.isSpawned()) || (best != null && best.isSpawned());
+    }
+
+    /**
+     * Re-renders the top and creator holograms that show any of these players, after their names were resolved.
+     */
+    public void refreshNameHolograms(java.util.Set<UUID> players) {
+        if (players.isEmpty()) return;
+        runSync(() -> {
+            for (String key : new java.util.ArrayList<>(topHolograms.keySet())) {
+                ParkourCourse course = parkourManager.getCourse(key);
+                if (course != null && players.stream().anyMatch(p -> topRenderer.shows(key, p))) {
+                    handleTopHologram(course, key, false);
+                }
+            }
+            for (Map.Entry<String, CreatorHologram> entry : creatorHolograms.entrySet()) {
+                ParkourCourse course = parkourManager.getCourse(entry.getKey());
+                if (course != null && players.stream().anyMatch(course.getCreators()::contains)) {
+                    entry.getValue().update();
+                }
+            }
+        });
+    }
+
+    /**
+     * The player's best time on this course changed; their personal-best line is refreshed within a few ticks.
+     */
+    public void personalBestChanged(ParkourCourse course, UUID player) {
+        if (course == null || player == null) return;
+        runSync(() -> {
+            String key = course.getName().toLowerCase(Locale.ROOT);
+            if (bestHolograms.containsKey(key)) {
+                dirtyBests.add(new PendingBest(key, player));
+            }
+        });
+    }
+
+    /**
+     * Every player's best on this course may have changed (e.g. times were (re)loaded).
+     */
+    public void personalBestsInvalidated(ParkourCourse course) {
+        if (course == null) return;
+        runSync(() -> {
+            String key = course.getName().toLowerCase(Locale.ROOT);
+            if (!bestHolograms.containsKey(key)) return;
+            for (Player online : Bukkit.getOnlinePlayers()) {
+                dirtyBests.add(new PendingBest(key, online.getUniqueId()));
+            }
+        });
+    }
+
     private void startUpdater() {
         runSync(() -> {
             if (task != null) {
                 task.cancel();
             }
-            task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-                for (Entry<String, PersonalBestHologram> entry : bestHolograms.entrySet()) {
-                    ParkourCourse course = parkourManager.getCourse(entry.getKey());
-                    if (course == null) {
-                        continue;
-                    }
-                    PersonalBestHologram hologram = entry.getValue();
-                    Bukkit.getOnlinePlayers().forEach(hologram::updateFor);
-                }
-            }, 20L, 40L);
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tickPersonalBests, 20L, 1L);
             log(Level.FINE, "Started personal best hologram updater task.");
         });
     }
 
+    private void tickPersonalBests() {
+        if (bestHolograms.isEmpty()) {
+            dirtyBests.clear();
+            return;
+        }
+        int budget = personalBestBudget();
+        // 1) Changed bests first
+        java.util.Iterator<PendingBest> it = dirtyBests.iterator();
+        while (budget > 0 && it.hasNext()) {
+            PendingBest pending = it.next();
+            it.remove();
+            PersonalBestHologram hologram = bestHolograms.get(pending.courseKey());
+            Player player = Bukkit.getPlayer(pending.player());
+            if (hologram != null && player != null) {
+                hologram.updateFor(player);
+                budget--;
+            }
+        }
+        // 2) Spend what is left on the view-range sweep (players walking into or out of range).
+        // A cycle that completes ends the tick, so small servers do not re-check the same pairs
+        int visited = 0;
+        while (budget > 0) {
+            if (sweepHologramIndex >= sweepHolograms.size()) {
+                if (visited > 0) return;
+                sweepHolograms = new java.util.ArrayList<>(bestHolograms.values());
+                sweepPlayers = new java.util.ArrayList<>(Bukkit.getOnlinePlayers());
+                sweepHologramIndex = 0;
+                sweepPlayerIndex = 0;
+                if (sweepHolograms.isEmpty() || sweepPlayers.isEmpty()) return;
+            }
+            if (sweepPlayerIndex >= sweepPlayers.size()) {
+                sweepHologramIndex++;
+                sweepPlayerIndex = 0;
+                continue;
+            }
+            Player player = sweepPlayers.get(sweepPlayerIndex++);
+            if (player.isOnline()) {
+                sweepHolograms.get(sweepHologramIndex).refreshVisibility(player);
+            }
+            budget--;
+            visited++;
+        }
+    }
+
+    private int personalBestBudget() {
+        try { return plugin.getConfigManager().personalBestUpdatesPerTick(); } catch (Throwable ignored) {}
+        return 64;
+    }
+
     public void despawnAll() {
         runSync(() -> {
             if (task != null) {
                 task.cancel();
                 task = null;
             }
+            dirtyBests.clear();
+            sweepHolograms = java.util.Collections.emptyList();
+            sweepPlayers = java.util.Collections.emptyList();
             topHolograms.values().forEach(Hologram::despawn);
             bestHolograms.values().forEach(PersonalBestHologram::destroy);
             creatorHolograms.values().forEach(CreatorHologram::destroy);
             topHolograms.clear();
+            topRenderer.clear();
             bestHolograms.clear();
             creatorHolograms.clear();
+            hologramChunks.clear();
             log(Level.INFO, "Despawned all holograms.");
         });
     }
@@ -213,6 +361,7 @@ public class HologramManager implements Listener {
         runSync(() -> {
             String key = course.getName().toLowerCase(Locale.ROOT);
             Hologram top = topHolograms.remove(key);
+            topRenderer.forget(key);
             if (top != null) {
                 top.despawn();
                 log(Level.INFO, "Removed top hologram for removed course " + course.getName() + ".");
@@ -227,6 +376,7 @@ public class HologramManager implements Listener {
                 creator.destroy();
                 log(Level.INFO, "Removed creator hologram for removed course " + course.getName() + ".");
             }
+            reindexChunks();
             // Deep-clean any stray ArmorStands with our hologram key still present for this course
             try { purgeWorldEntitiesForCourse(key); } catch (Throwable t) { log(Level.FINE, "Purge for course '" + key + "' failed: " + t.getMessage()); }
             // Also purge by known locations using scoreboard tag to catch legacy entities without PDC keys
@@ -299,17 +449,7 @@ public class HologramManager implements Listener {
         for (org.bukkit.World w : Bukkit.getWorlds()) {
             try {
                 for (org.bukkit.entity.ArmorStand as : w.getEntitiesByClass(org.bukkit.entity.ArmorStand.class)) {
-                    boolean ours = false;
-                    // PDC-based identification
-                    try {
-                        String id = hologramKey != null ? as.getPersistentDataContainer().get(hologramKey, org.bukkit.persistence.PersistentDataType.STRING) : null;
-                        if (id != null && !id.isBlank()) ours = true;
-                    } catch (Throwable ignored) {}
-                    // Legacy scoreboard tag
-                    try {
-                        if (!ours && as.getScoreboardTags() != null && as.getScoreboardTags().contains("parkour_holo")) ours = true;
-                    } catch (Throwable ignored) {}
-                    if (ours) {
+                    if (isOurStand(as)) {
                         as.remove();
                         removed++;
                     }
@@ -317,16 +457,57 @@ public class HologramManager implements Listener {
             } catch (Throwable ignored) {}
         }
         // Also clear any tracked maps; entities are gone anyway
+        topHolograms.values().forEach(Hologram::despawn);
+        bestHolograms.values().forEach(PersonalBestHologram::destroy);
+        creatorHolograms.values().forEach(CreatorHologram::destroy);
         topHolograms.clear();
+        topRenderer.clear();
         bestHolograms.clear();
         creatorHolograms.clear();
+        hologramChunks.clear();
         return removed;
     }
 
+    private boolean isOurStand(org.bukkit.entity.ArmorStand as) {
+        // PDC-based identification
+        try {
+            String id = hologramKey != null ? as.getPersistentDataContainer().get(hologramKey, org.bukkit.persistence.PersistentDataType.STRING) : null;
+            if (id != null && !id.isBlank()) return true;
+        } catch (Throwable ignored) {}
+        // Legacy scoreboard tag
+        try {
+            return as.getScoreboardTags() != null && as.getScoreboardTags().contains("parkour_holo");
+        } catch (Throwable ignored) {}
+        return false;
+    }
+
+    private boolean isMaintenancePending(String task) {
+        try { return plugin.getStorage().isMaintenancePending(task); } catch (Throwable ignored) {}
+        return false;
+    }
+
+    /**
+     * The armor stand personal-best hologram marked its chunk force-loaded, which is saved with the world (top and
+     * creator holograms only used plugin tickets). Display holograms never need it, so on the first start with the
+     * display backend the flag is dropped from those chunks; later /forceload calls are left alone.
+     */
+    private void clearLegacyForceLoad(Location location) {
+        if (location == null || location.getWorld() == null) return;
+        org.bukkit.World w = location.getWorld();
+        int cx = location.getBlockX() >> 4;
+        int cz = location.getBlockZ() >> 4;
+        try {
+            if (w.isChunkForceLoaded(cx, cz)) {
+                w.setChunkForceLoaded(cx, cz, false);
+                log(Level.INFO, "Cleared legacy force-load on hologram chunk [" + cx + "," + cz + "] in " + w.getName() + ".");
+            }
+        } catch (Throwable ignored) {}
+    }
+
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        runSync(() -> bestHolograms.values().forEach(hologram -> hologram.prepareForPlayer(player)));
+        UUID player = event.getPlayer().getUniqueId();
+        runSync(() -> bestHolograms.keySet().forEach(key -> dirtyBests.add(new PendingBest(key, player))));
     }
 
     @EventHandler
@@ -335,6 +516,78 @@ public class HologramManager implements Listener {
         bestHolograms.values().forEach(hologram -> hologram.removePlayer(player.getUniqueId()));
     }
 
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (hologramChunks.isEmpty() || !hologramChunks.contains(chunkKey(event.getChunk().getX(), event.getChunk().getZ()))) {
+            return;
+        }
+        org.bukkit.World world = event.getWorld();
+        int cx = event.getChunk().getX();
+        int cz = event.getChunk().getZ();
+        topHolograms.values().forEach(h -> { if (h.isInChunk(world, cx, cz)) h.unloadEntities(); });
+        bestHolograms.values().forEach(h -> { if (h.isInChunk(world, cx, cz)) h.unloadEntities(); });
+        creatorHolograms.values().forEach(h -> { if (h.isInChunk(world, cx, cz)) h.unloadEntities(); });
+    }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (hologramChunks.isEmpty() || !hologramChunks.contains(chunkKey(event.getChunk().getX(), event.getChunk().getZ()))) {
+            return;
+        }
+        org.bukkit.World world = event.getWorld();
+        int cx = event.getChunk().getX();
+        int cz = event.getChunk().getZ();
+        // Spawn on the next tick rather than from inside the load callback
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (!world.isChunkLoaded(cx, cz)) return;
+            topHolograms.values().forEach(h -> { if (h.isInChunk(world, cx, cz)) h.respawn(); });
+            bestHolograms.values().forEach(h -> { if (h.isInChunk(world, cx, cz)) h.respawn(); });
+            creatorHolograms.values().forEach(h -> { if (h.isInChunk(world, cx, cz)) h.respawn(); });
+        });
+    }
+
+    @EventHandler
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        // Entities are not attached yet during ChunkLoadEvent on Paper; legacy stands show up here
+        if (backend().forceLoadsChunks()) return;
+        for (org.bukkit.entity.Entity entity : event.getEntities()) {
+            if (entity instanceof org.bukkit.entity.ArmorStand as && isOurStand(as)) {
+                as.remove();
+            }
+        }
+    }
+
+    private void reindexChunks() {
+        hologramChunks.clear();
+        if (backend().forceLoadsChunks()) {
+            // Armor stand chunks stay ticketed; no load/unload handling needed
+            return;
+        }
+        topHolograms.values().forEach(h -> addChunk(h.getBaseLocation()));
+        bestHolograms.values().forEach(h -> addChunk(h.getBaseLocation()));
+        creatorHolograms.values().forEach(h -> addChunk(h.getBaseLocation()));
+    }
+
+    private void addChunk(Location location) {
+        if (location != null) {
+            hologramChunks.add(chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private HologramBackend backend() {
+        try { return plugin.getConfigManager().hologramBackend(); } catch (Throwable ignored) {}
+        return HologramBackend.TEXT_DISPLAY;
+    }
+
+    private Location loadedOrNull(Location location) {
+        if (location == null || location.getWorld() == null) return null;
+        return location.getWorld().isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4) ? location : null;
+    }
+
     private void runSync(Runnable runnable) {
         if (Bukkit.isPrimaryThread()) {
             runnable.run();
@@ -396,6 +649,11 @@ public class HologramManager implements Listener {
             return false;
         }
 
+        // Display holograms spawn lazily when their chunk loads; only the armor stand backend loads it up front
+        if (!backend().forceLoadsChunks()) {
+            return true;
+        }
+
         // Ensure chunk is loaded
         try {
             int chunkX = location.getBlockX() >> 4;
@@ -7,11 +7,9 @@ import com.pikaronga.parkour.util.TimeUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.NamespacedKey;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.WorldCreator;
 
@@ -27,11 +25,13 @@ public class PersonalBestHologram {
     private final ParkourPlugin plugin;
     private final ParkourCourse course;
     private final Location baseLocation;
-    private ArmorStand headerStand;
-    private final Map<UUID, ArmorStand> personalLines = new HashMap<>();
+    private Entity headerStand;
+    // One line per nearby viewer, hidden from everyone else by default (no per-player hide loops)
+    private final Map<UUID, PersonalLine> personalLines = new HashMap<>();
     private final HologramTextProvider textProvider;
     private final NamespacedKey hologramKey;
     private final String headerIdentifier;
+    private final HologramBackend backend;
 
     public PersonalBestHologram(ParkourPlugin plugin, ParkourCourse course, Location baseLocation, HologramTextProvider textProvider, NamespacedKey hologramKey) {
         this.plugin = plugin;
@@ -40,6 +40,7 @@ public class PersonalBestHologram {
         this.textProvider = textProvider;
         this.hologramKey = hologramKey;
         this.headerIdentifier = identifierForHeader();
+        this.backend = HologramBackend.of(plugin);
         // Ensure spawn runs on main thread and after world is loaded
         if (!Bukkit.isPrimaryThread()) {
             plugin.getServer().getScheduler().runTask(plugin, this::spawnHeader);
@@ -56,6 +57,10 @@ public class PersonalBestHologram {
             return;
         }
 
+        if (!backend.forceLoadsChunks() && !isChunkLoaded()) {
+            // Display lines only live in loaded chunks; HologramManager calls respawn() when it loads
+            return;
+        }
         if (!ensureWorldAndChunkLoaded(baseLocation)) {
             // schedule a retry on the main thread next tick
             plugin.getServer().getScheduler().runTask(plugin, this::spawnHeader);
@@ -69,29 +74,28 @@ public class PersonalBestHologram {
         }
 
         // Force-load the chunk containing the header so the armor stand will be ticked even when players are absent
-        try { world.setChunkForceLoaded(baseLocation.getBlockX() >> 4, baseLocation.getBlockZ() >> 4, true); } catch (Throwable ignored) {}
-        headerStand = world.spawn(baseLocation, ArmorStand.class, stand -> {
-            configureStand(stand, textProvider.formatBestHeader(course.getName()), headerIdentifier);
-        });
+        if (backend.forceLoadsChunks()) {
+            try { world.setChunkForceLoaded(baseLocation.getBlockX() >> 4, baseLocation.getBlockZ() >> 4, true); } catch (Throwable ignored) {}
+        }
+        headerStand = HologramEntities.spawnLine(backend, world, baseLocation, textProvider.formatBestHeader(course.getName()));
+        if (headerStand != null) {
+            applyIdentifier(headerStand, headerIdentifier);
+        }
         if (headerStand != null) {
             try { if (plugin.getConfigManager().debugEnabled()) plugin.getLogger().info("Spawned personal best header hologram for '" + course.getName() + "' at " + formatLocation(headerStand.getLocation()) + " (entity=" + headerStand.getUniqueId() + ")"); } catch (Throwable ignored) {}
         }
     }
 
-    private ArmorStand spawnPersonalLine() {
-        // Ensure this runs on main thread
-        if (!Bukkit.isPrimaryThread()) {
-            final ArmorStand[] holder = new ArmorStand[1];
-            plugin.getServer().getScheduler().runTask(plugin, () -> holder[0] = spawnPersonalLine());
-            return holder[0];
-        }
+    private record PersonalLine(Entity entity, String text) {
+    }
 
+    private Entity spawnPersonalLine(Player owner, String text) {
         Location loc = baseLocation.clone().add(0, -0.3, 0);
+        if (!backend.forceLoadsChunks() && !isChunkLoaded()) {
+            return null;
+        }
         if (!ensureWorldAndChunkLoaded(loc)) {
-            // schedule a retry on the main thread next tick
-            final ArmorStand[] holder = new ArmorStand[1];
-            plugin.getServer().getScheduler().runTask(plugin, () -> holder[0] = spawnPersonalLine());
-            return holder[0];
+            return null;
         }
 
         World world = loc.getWorld();
@@ -100,104 +104,139 @@ public class PersonalBestHologram {
             return null;
         }
 
-        ArmorStand stand = world.spawn(loc, ArmorStand.class, s -> {
-            configureStand(s, textProvider.formatBestEmpty(course.getName()), "");
-        });
-        // initially hide from all players until we show it for the target player
-        Bukkit.getOnlinePlayers().forEach(player -> player.hideEntity(plugin, stand));
+        // Spawned invisible-by-default and non-persistent; only the owner is shown the entity
+        Entity stand = HologramEntities.spawnLine(backend, world, loc, text, true);
         if (stand != null) {
-            try { if (plugin.getConfigManager().debugEnabled()) plugin.getLogger().info("Spawned personal best line hologram for '" + course.getName() + "' at " + formatLocation(stand.getLocation()) + " (entity=" + stand.getUniqueId() + ")"); } catch (Throwable ignored) {}
+            applyIdentifier(stand, identifierForPlayer(owner.getUniqueId()));
+            owner.showEntity(plugin, stand);
+            try { if (plugin.getConfigManager().debugEnabled()) plugin.getLogger().info("Spawned personal best line hologram for '" + course.getName() + "' at " + formatLocation(stand.getLocation()) + " (entity=" + stand.getUniqueId() + ", viewer=" + owner.getName() + ")"); } catch (Throwable ignored) {}
         }
         return stand;
     }
 
-    private void configureStand(ArmorStand stand, String name, String identifier) {
-        stand.setGravity(false);
-        // Use marker=false so clients render the name reliably in different server implementations
-        stand.setMarker(false);
-        try { stand.setRemoveWhenFarAway(false); } catch (Throwable ignored) {}
-        stand.setInvisible(true);
-        // apply the name first, then make it visible so metadata is applied consistently
-        try {
-            Component comp = LegacyComponentSerializer.legacySection().deserialize(name);
-            stand.customName(comp);
-        } catch (Throwable t) {
-            try { stand.setCustomName(name); } catch (Throwable ignored) {}
-        }
-        stand.setCustomNameVisible(true);
-        stand.setBasePlate(false);
-        stand.setSmall(true);
-        stand.setPersistent(true);
-        stand.setInvulnerable(true);
-        stand.setSilent(true);
-        applyIdentifier(stand, identifier);
-    }
-
     public void prepareForPlayer(Player player) {
-        if (headerStand != null) {
-            player.showEntity(plugin, headerStand);
-        }
-        for (ArmorStand stand : personalLines.values()) {
-            player.hideEntity(plugin, stand);
-        }
         updateFor(player);
     }
 
+    /**
+     * Renders this player's line if they are within view distance of the hologram, otherwise drops it.
+     * The entity is only renamed when the rendered text actually changed.
+     */
     public void updateFor(Player player) {
-        ArmorStand stand = personalLines.computeIfAbsent(player.getUniqueId(), uuid -> spawnPersonalLine());
-        if (stand == null) {
+        UUID id = player.getUniqueId();
+        PersonalLine current = personalLines.get(id);
+        if (!isInViewRange(player)) {
+            if (current != null) {
+                personalLines.remove(id);
+                try { current.entity().remove(); } catch (Throwable ignored) {}
+            }
             return;
         }
-        applyIdentifier(stand, identifierForPlayer(player.getUniqueId()));
-        long best = course.getBestTime(player.getUniqueId());
-        if (best <= 0) {
-            try {
-                Component comp = LegacyComponentSerializer.legacySection().deserialize(textProvider.formatBestEmpty(course.getName()));
-                stand.customName(comp);
-            } catch (Throwable t) {
-                try { stand.setCustomName(textProvider.formatBestEmpty(course.getName())); } catch (Throwable ignored) {}
-            }
-        } else {
-            String line = textProvider.formatBestEntry(player.getName(), TimeUtil.formatDuration(best), course.getName());
-            try {
-                Component comp = LegacyComponentSerializer.legacySection().deserialize(line);
-                stand.customName(comp);
-            } catch (Throwable t) {
-                try { stand.setCustomName(line); } catch (Throwable ignored) {}
-            }
+        if (!course.isDetailsLoaded()) {
+            // Re-queued for every player by the load callback
+            plugin.getCacheManager().ensureLoaded(course);
+            return;
         }
-        Bukkit.getOnlinePlayers().forEach(online -> {
-            if (!online.getUniqueId().equals(player.getUniqueId())) {
-                online.hideEntity(plugin, stand);
+        long best = course.getBestTime(id);
+        String text = best <= 0
+                ? textProvider.formatBestEmpty(course.getName())
+                : textProvider.formatBestEntry(player.getName(), TimeUtil.formatDuration(best), course.getName());
+        if (current != null && current.entity().isValid()) {
+            if (!text.equals(current.text())) {
+                HologramEntities.setText(current.entity(), text);
+                personalLines.put(id, new PersonalLine(current.entity(), text));
             }
-        });
-        player.showEntity(plugin, stand);
+            return;
+        }
+        Entity stand = spawnPersonalLine(player, text);
+        if (stand == null) {
+            personalLines.remove(id);
+            return;
+        }
+        personalLines.put(id, new PersonalLine(stand, text));
+    }
+
+    /**
+     * Cheap periodic check: only does work when the player entered or left view range (or the line was unloaded).
+     */
+    public void refreshVisibility(Player player) {
+        PersonalLine current = personalLines.get(player.getUniqueId());
+        boolean inRange = isInViewRange(player);
+        if (inRange == (current != null && current.entity().isValid())) {
+            return;
+        }
+        updateFor(player);
+    }
+
+    private boolean isInViewRange(Player player) {
+        World world = baseLocation.getWorld();
+        if (world == null || !world.equals(player.getWorld())) {
+            return false;
+        }
+        int viewChunks;
+        try { viewChunks = player.getViewDistance(); } catch (Throwable t) { viewChunks = Bukkit.getViewDistance(); }
+        double range = Math.max(2, viewChunks) * 16.0D;
+        return player.getLocation().distanceSquared(baseLocation) <= range * range;
     }
 
     public void removePlayer(UUID uuid) {
-        ArmorStand stand = personalLines.remove(uuid);
-        if (stand != null) {
-            stand.remove();
+        PersonalLine line = personalLines.remove(uuid);
+        if (line != null) {
+            line.entity().remove();
         }
     }
 
     public void destroy() {
         World w = baseLocation.getWorld();
-        if (w != null) {
+        if (w != null && backend.forceLoadsChunks()) {
             try { w.setChunkForceLoaded(baseLocation.getBlockX() >> 4, baseLocation.getBlockZ() >> 4, false); } catch (Throwable ignored) {}
         }
         if (headerStand != null) {
             headerStand.remove();
             headerStand = null;
         }
-        personalLines.values().forEach(ArmorStand::remove);
+        personalLines.values().forEach(line -> line.entity().remove());
         personalLines.clear();
     }
 
+    /**
+     * Chunk is unloading: drop display entities; {@link #respawn()} rebuilds them. No-op for armor stands.
+     */
+    public void unloadEntities() {
+        if (backend.forceLoadsChunks()) return;
+        if (headerStand != null) {
+            try { headerStand.remove(); } catch (Throwable ignored) {}
+            headerStand = null;
+        }
+        personalLines.values().forEach(line -> { try { line.entity().remove(); } catch (Throwable ignored) {} });
+        personalLines.clear();
+    }
+
+    public void respawn() {
+        if (headerStand == null) {
+            spawnHeader();
+        }
+        Bukkit.getOnlinePlayers().forEach(this::updateFor);
+    }
+
+    public boolean isInChunk(World world, int chunkX, int chunkZ) {
+        return baseLocation.getWorld() != null && baseLocation.getWorld().equals(world)
+                && (baseLocation.getBlockX() >> 4) == chunkX && (baseLocation.getBlockZ() >> 4) == chunkZ;
+    }
+
+    private boolean isChunkLoaded() {
+        World world = baseLocation.getWorld();
+        return world != null && world.isChunkLoaded(baseLocation.getBlockX() >> 4, baseLocation.getBlockZ() >> 4);
+    }
+
     public Location getBaseLocation() {
         return baseLocation;
     }
 
+    public boolean isSpawned() {
+        return headerStand != null;
+    }
+
     public java.util.Optional<UUID> getHeaderEntityId() {
         return headerStand == null ? java.util.Optional.empty() : java.util.Optional.of(headerStand.getUniqueId());
     }
@@ -209,7 +248,7 @@ public class PersonalBestHologram {
         return location.getWorld().getName() + String.format("[%.2f, %.2f, %.2f]", location.getX(), location.getY(), location.getZ());
     }
 
-    private void applyIdentifier(ArmorStand stand, String identifier) {
+    private void applyIdentifier(Entity stand, String identifier) {
         try { stand.addScoreboardTag(HOLOGRAM_TAG); } catch (Throwable ignored) {}
         if (hologramKey != null && identifier != null && !identifier.isEmpty()) {
             try { stand.getPersistentDataContainer().set(hologramKey, PersistentDataType.STRING, identifier); } catch (Throwable ignored) {}
@@ -0,0 +1,160 @@
+package com.pikaronga.parkour.hologram;
+
+import com.pikaronga.parkour.config.HologramTextProvider;
+import com.pikaronga.parkour.course.ParkourCourse;
+import com.pikaronga.parkour.util.TimeUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Text pipeline for top-times holograms. The leaderboard and player names are snapshotted on the main thread,
+ * formatted into lines off it, and handed back to the main thread. Per hologram at most one render is in flight;
+ * snapshots requested meanwhile replace each other, and a snapshot equal to the last one requested is dropped,
+ * so a burst of finishes costs one or two renders instead of one per finish.
+ */
+final class TopLinesRenderer {
+
+    record Row(UUID player, String name, long nanos) {
+    }
+
+    record Snapshot(String course, List<Row> rows) {
+    }
+
+    private final Plugin plugin;
+    private final HologramTextProvider textProvider;
+    // Main thread only, keyed like HologramManager's hologram maps
+    private final Map<String, Snapshot> requested = new HashMap<>();
+    private final Map<String, Snapshot> pending = new HashMap<>();
+    private final Set<String> inFlight = new HashSet<>();
+    // Bumped by synchronous renders so async results started before them are discarded
+    private final Map<String, Integer> generations = new HashMap<>();
+
+    TopLinesRenderer(Plugin plugin, HologramTextProvider textProvider) {
+        this.plugin = plugin;
+        this.textProvider = textProvider;
+    }
+
+    /**
+     * Top {@code limit} entries with their names as currently cached. Main thread.
+     */
+    static Snapshot snapshot(ParkourCourse course, int limit, Function<UUID, String> names) {
+        List<Map.Entry<UUID, Long>> top = course.getTopTimes(limit);
+        List<Row> rows = new ArrayList<>(top.size());
+        for (Map.Entry<UUID, Long> entry : top) {
+            rows.add(new Row(entry.getKey(), names.apply(entry.getKey()), entry.getValue()));
+        }
+        return new Snapshot(course.getName(), List.copyOf(rows));
+    }
+
+    /**
+     * Renders on the calling (main) thread, for holograms being spawned; supersedes any render in flight.
+     */
+    List<String> renderNow(String key, Snapshot snapshot) {
+        requested.put(key, snapshot);
+        pending.remove(key);
+        generations.merge(key, 1, Integer::sum);
+        return render(snapshot);
+    }
+
+    /**
+     * Renders asynchronously and passes the lines to {@code apply} on the main thread. Main thread.
+     */
+    void request(String key, Snapshot snapshot, BiConsumer<String, List<String>> apply) {
+        if (snapshot.equals(requested.get(key))) return;
+        requested.put(key, snapshot);
+        if (inFlight.contains(key)) {
+            pending.put(key, snapshot);
+            return;
+        }
+        start(key, snapshot, apply);
+    }
+
+    /**
+     * True if the snapshot last requested for the hologram lists the player. Main thread.
+     */
+    boolean shows(String key, UUID player) {
+        Snapshot snapshot = requested.get(key);
+        if (snapshot == null) return false;
+        for (Row row : snapshot.rows()) {
+            if (row.player().equals(player)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The hologram is gone; drops its state so a new one starts from scratch. Main thread.
+     */
+    void forget(String key) {
+        requested.remove(key);
+        pending.remove(key);
+        generations.merge(key, 1, Integer::sum);
+    }
+
+    void clear() {
+        requested.clear();
+        pending.clear();
+        for (String key : new ArrayList<>(generations.keySet())) generations.merge(key, 1, Integer::sum);
+    }
+
+    private void start(String key, Snapshot snapshot, BiConsumer<String, List<String>> apply) {
+        inFlight.add(key);
+        int generation = generations.getOrDefault(key, 0);
+        try {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                List<String> lines = null;
+                try {
+                    lines = render(snapshot);
+                } catch (Throwable t) {
+                    try { plugin.getLogger().warning("Failed to render top hologram for " + snapshot.course() + ": " + t.getMessage()); } catch (Throwable ignored) {}
+                }
+                List<String> rendered = lines;
+                Bukkit.getScheduler().runTask(plugin, () -> finish(key, generation, rendered, apply));
+            });
+        } catch (Throwable t) {
+            // Scheduler unavailable (disabling): nothing left to show it on
+            inFlight.remove(key);
+        }
+    }
+
+    private void finish(String key, int generation, List<String> lines, BiConsumer<String, List<String>> apply) {
+        inFlight.remove(key);
+        if (lines != null && generation == generations.getOrDefault(key, 0)) {
+            apply.accept(key, lines);
+        }
+        Snapshot next = pending.remove(key);
+        if (next != null) {
+            start(key, next, apply);
+        }
+    }
+
+    /**
+     * Formats the snapshot; touches no Bukkit state, safe on any thread.
+     */
+    List<String> render(Snapshot snapshot) {
+        List<String> lines = new ArrayList<>(snapshot.rows().size() + 1);
+        lines.add(textProvider.formatTopHeader(snapshot.course()));
+        if (snapshot.rows().isEmpty()) {
+            lines.add(textProvider.formatTopEmpty(snapshot.course()));
+            return List.copyOf(lines);
+        }
+        for (int i = 0; i < snapshot.rows().size(); i++) {
+            Row row = snapshot.rows().get(i);
+            String name = row.name();
+            if (name == null || name.isBlank()) {
+                name = row.player().toString().substring(0, 8);
+            }
+            lines.add(textProvider.formatTopEntry(i + 1, name, TimeUtil.formatDuration(row.nanos()), snapshot.course()));
+        }
+        return List.copyOf(lines);
+    }
+}
@@ -1,10 +1,12 @@
 package com.pikaronga.parkour.listener;
 
 import com.pikaronga.parkour.config.MessageManager;
+import com.pikaronga.parkour.course.ParkourCourse;
 import com.pikaronga.parkour.session.ParkourSession;
 import com.pikaronga.parkour.player.PlayerParkourManager;
 import com.pikaronga.parkour.session.SessionManager;
 import com.pikaronga.parkour.util.ParkourManager;
+import com.pikaronga.parkour.util.PlateIndex;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
@@ -27,12 +29,14 @@ import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
 import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 public class ParkourListener implements Listener {
 
+    // Indexed by Material ordinal; computed once instead of a name().endsWith() per move
+    private static final boolean[] PRESSURE_PLATES = buildPlateTable();
+
     private final ParkourManager parkourManager;
     private final SessionManager sessionManager;
     private final MessageManager messageManager;
@@ -61,7 +65,7 @@ public class ParkourListener implements Listener {
                 return;
             }
             recentPhysicalPlates.add(event.getPlayer().getUniqueId());
-            handlePressurePlate(event.getPlayer(), event.getClickedBlock().getLocation());
+            handlePressurePlate(event.getPlayer(), event.getClickedBlock());
         } else if (event.getAction() == Action.RIGHT_CLICK_AIR || event.getAction() == Action.RIGHT_CLICK_BLOCK) {
             ItemStack item = event.getItem();
             if (item == null) {
@@ -99,41 +103,56 @@ public class ParkourListener implements Listener {
         } catch (Throwable ignored) {}
     }
 
-    private void handlePressurePlate(Player player, Location blockLocation) {
-        org.bukkit.block.Block block = blockLocation.getBlock();
-        parkourManager.findCourseByStart(block).ifPresent(course -> {
-            boolean allowed = course.isPublished() || (ppm != null && ppm.isOwner(player, course) && ppm.isTesting(player.getUniqueId(), course));
-            if (!allowed) {
-                return;
-            }
-            if (course.getStartTeleport() == null) {
-                course.setStartTeleport(blockLocation.clone().add(0.5, 0, 0.5));
-            }
-            ParkourSession session = sessionManager.getSession(player);
-            if (session != null && session.getCourse().equals(course) && session.consumeIgnoreNextStartPlate()) {
-                return;
+    private void handlePressurePlate(Player player, org.bukkit.block.Block block) {
+        // One index probe answers start/checkpoint/finish for this block
+        java.util.List<PlateIndex.Entry> plates = parkourManager.getPlatesAt(block);
+        if (plates.isEmpty()) {
+            return;
+        }
+        ParkourCourse startCourse = null;
+        PlateIndex.Entry checkpointEntry = null;
+        ParkourCourse finishCourse = null;
+        for (PlateIndex.Entry entry : plates) {
+            switch (entry.role()) {
+                case START -> { if (startCourse == null) startCourse = entry.course(); }
+                case CHECKPOINT -> { if (checkpointEntry == null) checkpointEntry = entry; }
+                case FINISH -> { if (finishCourse == null) finishCourse = entry.course(); }
             }
-            if (ppm != null && ppm.isTesting(player.getUniqueId(), course)) {
-                sessionManager.startSessionTest(player, course, false);
-            } else {
-                sessionManager.startSession(player, course, false);
+        }
+
+        if (startCourse != null) {
+            ParkourCourse course = startCourse;
+            boolean allowed = course.isPublished() || (ppm != null && ppm.isOwner(player, course) && ppm.isTesting(player.getUniqueId(), course));
+            if (allowed) {
+                if (course.getStartTeleport() == null) {
+                    course.setStartTeleport(block.getLocation().add(0.5, 0, 0.5));
+                }
+                ParkourSession session = sessionManager.getSession(player);
+                if (session == null || !session.getCourse().equals(course) || !session.consumeIgnoreNextStartPlate()) {
+                    if (ppm != null && ppm.isTesting(player.getUniqueId(), course)) {
+                        sessionManager.startSessionTest(player, course, false);
+                    } else {
+                        sessionManager.startSession(player, course, false);
+                    }
+                }
             }
-        });
+        }
 
-        Optional<ParkourManager.CheckpointMatch> match = parkourManager.findCheckpoint(block);
-        if (match.isPresent()) {
-            boolean allowed = match.get().course().isPublished() || (ppm != null && ppm.isOwner(player, match.get().course()) && ppm.isTesting(player.getUniqueId(), match.get().course()));
+        if (checkpointEntry != null) {
+            ParkourCourse course = checkpointEntry.course();
+            boolean allowed = course.isPublished() || (ppm != null && ppm.isOwner(player, course) && ppm.isTesting(player.getUniqueId(), course));
             if (!allowed) {
                 return;
             }
             ParkourSession session = sessionManager.getSession(player);
-            if (session != null && session.getCourse().equals(match.get().course())) {
-                session.setLastCheckpoint(match.get().checkpoint().respawnLocation());
+            if (session != null && session.getCourse().equals(course)) {
+                session.setLastCheckpoint(checkpointEntry.checkpoint().respawnLocation(), course.getCheckpoints().indexOf(checkpointEntry.checkpoint()));
                 player.sendMessage(messageManager.getMessage("checkpoint-reached", "&aCheckpoint reached!"));
             }
         }
 
-        parkourManager.findCourseByFinish(block).ifPresent(course -> {
+        if (finishCourse != null) {
+            ParkourCourse course = finishCourse;
             boolean allowed = course.isPublished() || (ppm != null && ppm.isOwner(player, course) && ppm.isTesting(player.getUniqueId(), course));
             if (!allowed) {
                 return;
@@ -143,28 +162,34 @@ public class ParkourListener implements Listener {
                 return;
             }
             sessionManager.completeSession(player);
-        });
+        }
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
         Location to = event.getTo();
         if (to == null) {
             return;
         }
-        boolean skipPlateHandling = recentPhysicalPlates.remove(player.getUniqueId());
+        Player player = event.getPlayer();
+        // Fast path: only touch the plate set / block lookup when something can actually happen
+        boolean skipPlateHandling = !recentPhysicalPlates.isEmpty() && recentPhysicalPlates.remove(player.getUniqueId());
         if (!skipPlateHandling) {
             Location from = event.getFrom();
-            if (from.getBlockX() != to.getBlockX()
-                    || from.getBlockY() != to.getBlockY()
-                    || from.getBlockZ() != to.getBlockZ()) {
-                org.bukkit.block.Block toBlock = to.getBlock();
-                if (isPressurePlate(toBlock.getType())) {
-                    handlePressurePlate(player, toBlock.getLocation());
+            int toX = to.getBlockX();
+            int toY = to.getBlockY();
+            int toZ = to.getBlockZ();
+            if ((from.getBlockX() != toX || from.getBlockY() != toY || from.getBlockZ() != toZ)
+                    && parkourManager.mayHavePlatesNear(toX, toZ)) {
+                org.bukkit.World world = to.getWorld();
+                if (world != null && isPressurePlate(world.getType(toX, toY, toZ))) {
+                    handlePressurePlate(player, to.getBlock());
                 }
             }
         }
+        if (!sessionManager.hasActiveSessions()) {
+            return;
+        }
         ParkourSession session = sessionManager.getSession(player);
         if (session == null) {
             return;
@@ -258,8 +283,17 @@ public class ParkourListener implements Listener {
         event.setCancelled(true);
     }
 
-    private boolean isPressurePlate(Material material) {
-        return material.name().endsWith("_PRESSURE_PLATE");
+    private static boolean isPressurePlate(Material material) {
+        return material != null && PRESSURE_PLATES[material.ordinal()];
+    }
+
+    private static boolean[] buildPlateTable() {
+        Material[] values = Material.values();
+        boolean[] table = new boolean[values.length];
+        for (Material material : values) {
+            table[material.ordinal()] = material.name().endsWith("_PRESSURE_PLATE");
+        }
+        return table;
     }
 
     private String getAction(ItemStack stack) {
@@ -1,21 +1,52 @@
 package com.pikaronga.parkour.placeholder;
 
 import com.pikaronga.parkour.ParkourPlugin;
+import com.pikaronga.parkour.cache.ParkourCacheManager;
 import com.pikaronga.parkour.course.ParkourCourse;
 import com.pikaronga.parkour.session.ParkourSession;
-import com.pikaronga.parkour.util.ParkourManager;
+import com.pikaronga.parkour.session.SessionSnapshot;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ParkourPlaceholders extends PlaceholderExpansion {
+
+    /**
+     * Course-dependent values for one online player, computed on the main thread. PlaceholderAPI may resolve
+     * placeholders on other threads, where course times, the leaderboard and run counters are not safe to read.
+     */
+    private record CourseView(String course, boolean inSession, long bestNanos, int rank, int playerRuns, int totalRuns) {
+        static final CourseView NONE = new CourseView(null, false, 0L, 0, 0, 0);
+    }
+
+    /**
+     * Server-wide counts and cache statistics, published by the same main-thread refresh.
+     */
+    private record Counts(int courses, int published, Map<UUID, Integer> createdBy, ParkourCacheManager.Stats cache) {
+        static final Counts NONE = new Counts(0, 0, Map.of(), null);
+    }
+
+    private static final long VIEW_REFRESH_TICKS = 10L;
+    // Views are only kept up to date for players whose placeholders were asked for within this window
+    private static final long VIEW_IDLE_MILLIS = 30_000L;
+
     private final ParkourPlugin plugin;
+    private final Map<UUID, Long> viewRequests = new ConcurrentHashMap<>();
+    private final Map<UUID, CourseView> views = new ConcurrentHashMap<>();
+    private volatile Counts counts = Counts.NONE;
+    private volatile long countsRequestedAt = 0L;
 
     public ParkourPlaceholders(ParkourPlugin plugin) {
         this.plugin = plugin;
+        try { counts = computeCounts(); } catch (Throwable ignored) {}
+        try { Bukkit.getScheduler().runTaskTimer(plugin, this::refreshViews, VIEW_REFRESH_TICKS, VIEW_REFRESH_TICKS); } catch (Throwable ignored) {}
     }
 
     @Override
@@ -49,22 +80,23 @@ public class ParkourPlaceholders extends PlaceholderExpansion {
         String key = params.toLowerCase(Locale.ROOT).trim();
 
         Player player = offline != null ? offline.getPlayer() : null; // may be null if offline
-        ParkourManager pm = plugin.getParkourManager();
 
         switch (key) {
             // Current course context (if the player is in a session)
             case "current_course": {
-                if (player == null) return "N/A";
-                ParkourSession s = plugin.getSessionManager().getSession(player);
-                ParkourCourse c = (s != null) ? s.getCourse() : plugin.getPlayerParkourManager() != null ? plugin.getPlayerParkourManager().getCourseByLocation(player.getLocation()).orElse(null) : null;
-                return c == null ? "N/A" : c.getName();
+                CourseView v = view(player);
+                return v.course() == null ? "N/A" : v.course();
+            }
+            case "current_time": {
+                SessionSnapshot s = (offline != null) ? plugin.getSessionManager().getSnapshot(offline.getUniqueId()) : null;
+                return s == null ? "N/A" : formatHuman(s.elapsedNanos());
+            }
+            case "current_checkpoint": {
+                SessionSnapshot s = (offline != null) ? plugin.getSessionManager().getSnapshot(offline.getUniqueId()) : null;
+                return s == null ? "0" : Integer.toString(s.checkpointIndex() + 1);
             }
             case "current_best_time": {
-                if (player == null) return "N/A";
-                ParkourSession s = plugin.getSessionManager().getSession(player);
-                ParkourCourse c = (s != null) ? s.getCourse() : plugin.getPlayerParkourManager() != null ? plugin.getPlayerParkourManager().getCourseByLocation(player.getLocation()).orElse(null) : null;
-                if (c == null) return "N/A";
-                long bestNanos = c.getBestTime(player.getUniqueId());
+                long bestNanos = view(player).bestNanos();
                 if (bestNanos <= 0) return "N/A";
                 return formatHuman(bestNanos);
             }
@@ -72,19 +104,13 @@ public class ParkourPlaceholders extends PlaceholderExpansion {
             // Personal totals
             case "completed_parkours": {
                 if (offline == null || offline.getUniqueId() == null) return "0";
-                int count = 0;
-                for (ParkourCourse c : pm.getCourses().values()) {
-                    if (c.getBestTime(offline.getUniqueId()) > 0) count++;
-                }
-                return Integer.toString(count);
+                // Persisted counter: times of idle courses are paged out, so scanning courses would undercount
+                int[] stats = plugin.getStorage().getPlayerStatsCached(offline.getUniqueId());
+                return Integer.toString(stats[1]);
             }
             case "created_parkours": {
                 if (offline == null || offline.getUniqueId() == null) return "0";
-                int count = 0;
-                for (ParkourCourse c : pm.getCourses().values()) {
-                    if (c.getCreators().contains(offline.getUniqueId())) count++;
-                }
-                return Integer.toString(count);
+                return Integer.toString(counts().createdBy().getOrDefault(offline.getUniqueId(), 0));
             }
             case "completed_runs":
             case "completed_runs_player":
@@ -114,48 +140,51 @@ public class ParkourPlaceholders extends PlaceholderExpansion {
                 return Integer.toString(stats[1]);
             }
             case "created_parkours_total": {
-                int count = 0;
-                for (ParkourCourse c : pm.getCourses().values()) {
-                    if (c.isPublished()) count++;
-                }
-                return Integer.toString(count);
+                return Integer.toString(counts().published());
             }
 
             // Accurate run counters (persisted)
             case "current_runs_player": {
-                if (player == null) return "0";
-                ParkourSession s = plugin.getSessionManager().getSession(player);
-                if (s == null) return "0";
-                return Integer.toString(s.getCourse().getPlayerRunCount(player.getUniqueId()));
+                CourseView v = view(player);
+                return v.inSession() ? Integer.toString(v.playerRuns()) : "0";
             }
             case "current_runs_total": {
-                ParkourSession s = (player != null) ? plugin.getSessionManager().getSession(player) : null;
-                if (s == null) return "0";
-                return Integer.toString(s.getCourse().getTotalRunCount());
+                CourseView v = view(player);
+                return v.inSession() ? Integer.toString(v.totalRuns()) : "0";
             }
 
             // Additional useful placeholders
             case "courses_total": {
-                return Integer.toString(pm.getCourses().size());
+                return Integer.toString(counts().courses());
+            }
+            case "pending_run_writes": {
+                return plugin.getStorage() != null ? Integer.toString(plugin.getStorage().getPendingRunWrites()) : "0";
+            }
+            case "pending_course_writes": {
+                return plugin.getStorage() != null ? Integer.toString(plugin.getStorage().getPendingCourseWrites()) : "0";
+            }
+            case "cache_hit_ratio": {
+                ParkourCacheManager.Stats st = counts().cache();
+                return String.format(java.util.Locale.ROOT, "%.1f%%", st != null ? st.hitRatio() * 100.0D : 0.0D);
+            }
+            case "cache_entries": {
+                ParkourCacheManager.Stats st = counts().cache();
+                return st != null ? st.residentEntries() + "/" + st.maxEntries() : "0/0";
+            }
+            case "cache_evictions": {
+                ParkourCacheManager.Stats st = counts().cache();
+                return Long.toString(st != null ? st.evictions() : 0L);
+            }
+            case "cache_load_ms": {
+                ParkourCacheManager.Stats st = counts().cache();
+                return String.format(java.util.Locale.ROOT, "%.1f", st != null ? st.averageLoadMillis() : 0.0D);
             }
             case "courses_published": {
-                int count = 0;
-                for (ParkourCourse c : pm.getCourses().values()) if (c.isPublished()) count++;
-                return Integer.toString(count);
+                return Integer.toString(counts().published());
             }
             case "current_best_rank": {
-                if (player == null) return "N/A";
-                ParkourSession s = plugin.getSessionManager().getSession(player);
-                ParkourCourse c = (s != null) ? s.getCourse() : plugin.getPlayerParkourManager() != null ? plugin.getPlayerParkourManager().getCourseByLocation(player.getLocation()).orElse(null) : null;
-                if (c == null) return "N/A";
-                long best = c.getBestTime(player.getUniqueId());
-                if (best <= 0) return "N/A";
-                int idx = 1;
-                for (var e : c.getTopTimes(plugin.getConfigManager().getTopHologramSize())) {
-                    if (e.getKey().equals(player.getUniqueId())) return Integer.toString(idx);
-                    idx++;
-                }
-                return "N/A";
+                int rank = view(player).rank();
+                return rank > 0 ? Integer.toString(rank) : "N/A";
             }
 
             default:
@@ -163,6 +192,65 @@ public class ParkourPlaceholders extends PlaceholderExpansion {
         }
     }
 
+    /**
+     * Last view computed for the player (none until the next refresh after their first request). Any thread.
+     */
+    private CourseView view(Player player) {
+        if (player == null) return CourseView.NONE;
+        UUID id = player.getUniqueId();
+        viewRequests.put(id, System.currentTimeMillis());
+        CourseView v = views.get(id);
+        return v != null ? v : CourseView.NONE;
+    }
+
+    private Counts counts() {
+        countsRequestedAt = System.currentTimeMillis();
+        return counts;
+    }
+
+    // Main thread
+    private void refreshViews() {
+        long now = System.currentTimeMillis();
+        if (now - countsRequestedAt <= VIEW_IDLE_MILLIS) {
+            try { counts = computeCounts(); } catch (Throwable ignored) {}
+        }
+        Iterator<Map.Entry<UUID, Long>> it = viewRequests.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Long> entry = it.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null || now - entry.getValue() > VIEW_IDLE_MILLIS) {
+                it.remove();
+                views.remove(entry.getKey());
+                continue;
+            }
+            try { views.put(entry.getKey(), computeView(player)); } catch (Throwable ignored) {}
+        }
+    }
+
+    private Counts computeCounts() {
+        Map<UUID, Integer> createdBy = new java.util.HashMap<>();
+        Map<String, ParkourCourse> courses = plugin.getParkourManager().getCourses();
+        for (ParkourCourse c : courses.values()) {
+            for (UUID creator : c.getCreators()) createdBy.merge(creator, 1, Integer::sum);
+        }
+        ParkourCacheManager.Stats cache = plugin.getCacheManager() != null ? plugin.getCacheManager().getStats() : null;
+        return new Counts(courses.size(), plugin.getParkourManager().getPublishedIndex().size(), Map.copyOf(createdBy), cache);
+    }
+
+    private CourseView computeView(Player player) {
+        UUID id = player.getUniqueId();
+        ParkourSession session = plugin.getSessionManager().getSession(player);
+        ParkourCourse c = session != null ? session.getCourse()
+                : plugin.getPlayerParkourManager() != null ? plugin.getPlayerParkourManager().getCourseByLocation(player.getLocation()).orElse(null) : null;
+        if (c == null) return CourseView.NONE;
+        boolean inSession = session != null;
+        if (!c.isDetailsLoaded()) {
+            plugin.getCacheManager().ensureLoaded(c);
+            return new CourseView(c.getName(), inSession, 0L, 0, c.getPlayerRunCount(id), c.getTotalRunCount());
+        }
+        return new CourseView(c.getName(), inSession, c.getBestTime(id), c.getRank(id), c.getPlayerRunCount(id), c.getTotalRunCount());
+    }
+
     private String formatHuman(long nanos) {
         if (nanos < 0) nanos = 0;
         long minutes = nanos / 60_000_000_000L;
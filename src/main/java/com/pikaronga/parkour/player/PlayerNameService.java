@@ -0,0 +1,154 @@
+package com.pikaronga.parkour.player;
+
+import com.pikaronga.parkour.ParkourPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * UUID -> player name lookups that never block the main thread.
+ * Names live in a bounded LRU cache with a TTL, backed by the {@code player_names} table (filled on join/quit).
+ * A miss returns {@code null} right away and resolves asynchronously; name-bearing holograms are refreshed once it arrives.
+ */
+public class PlayerNameService implements Listener {
+
+    private record Entry(String name, long expiresAt) {
+    }
+
+    private final ParkourPlugin plugin;
+    private final int maxEntries;
+    private final long ttlMs;
+    private final Map<UUID, Entry> cache;
+    private final Set<UUID> pending = java.util.concurrent.ConcurrentHashMap.newKeySet();
+    // Names resolved or changed since the last hologram refresh; filled from any thread
+    private final Set<UUID> renamed = java.util.concurrent.ConcurrentHashMap.newKeySet();
+    private final java.util.concurrent.atomic.AtomicBoolean refreshScheduled = new java.util.concurrent.atomic.AtomicBoolean(false);
+
+    public PlayerNameService(ParkourPlugin plugin, int maxEntries, long ttlMs) {
+        this.plugin = plugin;
+        this.maxEntries = Math.max(16, maxEntries);
+        this.ttlMs = Math.max(1000L, ttlMs);
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > PlayerNameService.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached name, or {@code null} while it is being resolved (or if the player is unknown).
+     */
+    public String getName(UUID uuid) {
+        if (uuid == null) return null;
+        Player online = Bukkit.getPlayer(uuid);
+        if (online != null) {
+            put(uuid, online.getName());
+            return online.getName();
+        }
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(uuid);
+        }
+        if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+            return entry.name();
+        }
+        requestAsync(uuid);
+        return entry != null ? entry.name() : null;
+    }
+
+    /**
+     * Name for display: the cached name or the first 8 characters of the UUID until it resolves.
+     */
+    public String displayName(UUID uuid) {
+        String name = getName(uuid);
+        if (name == null || name.isBlank()) {
+            return uuid == null ? "Unknown" : uuid.toString().substring(0, 8);
+        }
+        return name;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        remember(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        remember(event.getPlayer());
+    }
+
+    private void remember(Player player) {
+        UUID uuid = player.getUniqueId();
+        String name = player.getName();
+        String previous = put(uuid, name);
+        if (!name.equals(previous)) {
+            // A changed name invalidates leaderboard lines already rendered with the old one
+            if (previous != null) scheduleRefresh(uuid);
+        }
+        plugin.getStorage().savePlayerNameAsync(uuid, name);
+    }
+
+    private String put(UUID uuid, String name) {
+        synchronized (cache) {
+            Entry old = cache.put(uuid, new Entry(name, System.currentTimeMillis() + ttlMs));
+            return old != null ? old.name() : null;
+        }
+    }
+
+    private void requestAsync(UUID uuid) {
+        if (!pending.add(uuid)) return;
+        try {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                String name = null;
+                try {
+                    name = plugin.getStorage().loadPlayerName(uuid);
+                    if (name == null) {
+                        // Not seen by this plugin yet: fall back to the server's user cache, off the main thread
+                        name = Bukkit.getOfflinePlayer(uuid).getName();
+                        if (name != null) plugin.getStorage().savePlayerName(uuid, name);
+                    }
+                } catch (Throwable ignored) {}
+                // Unknown players are cached as null too, so they are not looked up again until the TTL expires
+                String previous = put(uuid, name);
+                pending.remove(uuid);
+                if (name != null && !name.equals(previous)) {
+                    scheduleRefresh(uuid);
+                }
+            });
+        } catch (Throwable t) {
+            pending.remove(uuid);
+        }
+    }
+
+    // Coalesces every name that arrives within a tick into one hologram refresh; callable from any thread
+    private void scheduleRefresh(UUID uuid) {
+        renamed.add(uuid);
+        if (!refreshScheduled.compareAndSet(false, true)) return;
+        try {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                refreshScheduled.set(false);
+                Set<UUID> players = new java.util.HashSet<>(renamed);
+                renamed.removeAll(players);
+                try { plugin.getHologramManager().refreshNameHolograms(players); } catch (Throwable ignored) {}
+            });
+        } catch (Throwable t) {
+            refreshScheduled.set(false);
+        }
+    }
+}
@@ -287,7 +287,6 @@ public class PlayerParkourManager {
         course.setStartTeleport(center.clone());
         course.setFinishTeleport(center.clone());
         usedChunks.add(key(minX, minZ));
-        plugin.getStorage().saveCourses(plugin.getParkourManager().getCourses());
         if (plugin.getConfigManager().outlineEnabled() && !plugin.getConfigManager().isVoidWorld()) {
             drawPlotOutline(region);
         }
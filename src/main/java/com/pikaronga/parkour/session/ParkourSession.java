@@ -20,12 +20,27 @@ public class ParkourSession {
     private boolean originalAllowFlight;
     private boolean ignoreNextStartPlate;
     private boolean testMode;
+    private int checkpointIndex = -1;
+    // Republished on every timer/checkpoint/mode change for readers on other threads
+    private volatile SessionSnapshot snapshot;
 
     public ParkourSession(Player player, ParkourCourse course, Location startLocation) {
         this.player = player;
         this.course = course;
         this.lastCheckpoint = startLocation != null ? startLocation.clone() : null;
         this.startTimeNanos = System.nanoTime();
+        publish();
+    }
+
+    /**
+     * Latest immutable state of this session; may be read from any thread.
+     */
+    public SessionSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publish() {
+        snapshot = new SessionSnapshot(player.getUniqueId(), course, startTimeNanos, checkpointIndex, testMode);
     }
 
     public Player getPlayer() {
@@ -42,14 +57,28 @@ public class ParkourSession {
 
     public void resetTimer() {
         this.startTimeNanos = System.nanoTime();
+        publish();
     }
 
     public Location getLastCheckpoint() {
         return lastCheckpoint;
     }
 
+    /**
+     * Back to the start: no checkpoint reached.
+     */
     public void setLastCheckpoint(Location lastCheckpoint) {
+        setLastCheckpoint(lastCheckpoint, -1);
+    }
+
+    public void setLastCheckpoint(Location lastCheckpoint, int checkpointIndex) {
         this.lastCheckpoint = lastCheckpoint != null ? lastCheckpoint.clone() : null;
+        this.checkpointIndex = checkpointIndex;
+        publish();
+    }
+
+    public int getCheckpointIndex() {
+        return checkpointIndex;
     }
 
     public void captureInventory() {
@@ -99,6 +128,6 @@ public class ParkourSession {
         return true;
     }
 
-    public void setTestMode(boolean test) { this.testMode = test; }
+    public void setTestMode(boolean test) { this.testMode = test; publish(); }
     public boolean isTestMode() { return testMode; }
 }
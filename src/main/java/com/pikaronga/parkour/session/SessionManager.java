@@ -16,7 +16,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -26,12 +25,24 @@ import java.util.UUID;
 public class SessionManager {
 
     private final ParkourPlugin plugin;
-    private final Map<UUID, ParkourSession> sessions = new HashMap<>();
+    // Written on the main thread only; concurrent so other threads can read snapshots (see getSnapshot)
+    private final Map<UUID, ParkourSession> sessions = new java.util.concurrent.ConcurrentHashMap<>();
     private final NamespacedKey actionKey;
     private final NamespacedKey toggleStateKey;
     private final MessageManager messageManager;
     private final ConfigManager configManager;
     private final Set<UUID> hiddenPlayers = new HashSet<>();
+    // Built from config and messages on first use, dropped by reloadItems(); players get clones
+    private HotbarItems hotbar;
+
+    /**
+     * Resolved hotbar configuration with one finished template stack per item (null when disabled).
+     */
+    private record HotbarItems(ConfigManager.HotbarItemConfig restart, ConfigManager.HotbarItemConfig checkpoint,
+                               ConfigManager.HotbarItemConfig leave, ConfigManager.ToggleHotbarItemConfig hide,
+                               ItemStack restartItem, ItemStack checkpointItem, ItemStack leaveItem,
+                               ItemStack visibleItem, ItemStack hiddenItem, int heldSlot) {
+    }
 
     public SessionManager(ParkourPlugin plugin, MessageManager messageManager, ConfigManager configManager) {
         this.plugin = plugin;
@@ -61,13 +72,16 @@ public class SessionManager {
         // Ensure any previous per-player worldborder is cleared when entering a parkour
         try { player.setWorldBorder(null); } catch (Throwable ignored) {}
         if (existing != null && existing.getCourse().equals(course)) {
-            existing.restoreInventory();
-            existing.captureInventory();
+            // Hotbar untouched since the last (re)start: a restart is just a timer reset and a teleport
+            if (!hasParkourItems(player)) {
+                existing.restoreInventory();
+                existing.captureInventory();
+                giveParkourItems(player);
+            }
             existing.clearEffects();
             player.setAllowFlight(false);
             player.setFlying(false);
             player.setGameMode(org.bukkit.GameMode.ADVENTURE);
-            giveParkourItems(player);
             if (startTeleport != null) {
                 if (teleportToStart) {
                     teleportSync(player, startTeleport);
@@ -109,9 +123,21 @@ public class SessionManager {
         return s;
     }
 
-    private void giveParkourItems(Player player) {
-        player.getInventory().clear();
+    /**
+     * Drops the cached hotbar templates; call after config or messages were reloaded.
+     */
+    public void reloadItems() {
+        hotbar = null;
+    }
 
+    private HotbarItems hotbar() {
+        if (hotbar == null) {
+            hotbar = buildHotbar();
+        }
+        return hotbar;
+    }
+
+    private HotbarItems buildHotbar() {
         ConfigManager.HotbarItemConfig restartConfig = configManager.getHotbarItem(
                 "restart",
                 Material.SLIME_BALL,
@@ -130,30 +156,85 @@ public class SessionManager {
                 8,
                 messageManager.getItemName("leave", "&cLeave Parkour"),
                 defaultLoreList(messageManager.getItemLore("leave", "&7Exit parkour mode")));
-        ConfigManager.ToggleHotbarItemConfig hideConfig = getHideToggleConfig();
+        ConfigManager.ToggleHotbarItemConfig hideConfig = configManager.getToggleHotbarItem(
+                "hide",
+                2,
+                Material.ENDER_EYE,
+                messageManager.getItemName("hide", "&fHide Players"),
+                defaultLoreList(messageManager.getItemLore("hide", "&7Click to hide other players.")),
+                Material.ENDER_EYE,
+                messageManager.getItemName("show", "&fShow Players"),
+                defaultLoreList(messageManager.getItemLore("show", "&7Click to show other players."))
+        );
+        ItemStack visible = null;
+        ItemStack hidden = null;
+        if (hideConfig != null && hideConfig.isEnabled()) {
+            visible = buildToggleItem(hideConfig.visibleState(), false);
+            hidden = buildToggleItem(hideConfig.hiddenState(), true);
+        }
+        return new HotbarItems(restartConfig, checkpointConfig, leaveConfig, hideConfig,
+                buildActionItem(restartConfig, "restart"), buildActionItem(checkpointConfig, "checkpoint"),
+                buildActionItem(leaveConfig, "leave"), visible, hidden,
+                resolveHeldSlot(restartConfig, checkpointConfig, leaveConfig));
+    }
+
+    private void giveParkourItems(Player player) {
+        player.getInventory().clear();
+        HotbarItems items = hotbar();
 
-        int heldSlot = resolveHeldSlot(restartConfig, checkpointConfig, leaveConfig);
-        player.getInventory().setHeldItemSlot(heldSlot);
+        player.getInventory().setHeldItemSlot(items.heldSlot());
 
-        placeHotbarItem(player, restartConfig, "restart");
-        placeHotbarItem(player, checkpointConfig, "checkpoint");
-        placeHotbarItem(player, leaveConfig, "leave");
+        placeHotbarItem(player, items.restart(), items.restartItem(), "restart");
+        placeHotbarItem(player, items.checkpoint(), items.checkpointItem(), "checkpoint");
+        placeHotbarItem(player, items.leave(), items.leaveItem(), "leave");
 
         hiddenPlayers.remove(player.getUniqueId());
         showOthers(player);
-        updateHideItem(player, false, hideConfig);
+        updateHideItem(player, false);
+    }
+
+    /**
+     * True if the inventory holds exactly the parkour hotbar (the player-visibility toggle in either state).
+     */
+    private boolean hasParkourItems(Player player) {
+        HotbarItems items = hotbar();
+        org.bukkit.inventory.PlayerInventory inv = player.getInventory();
+        ItemStack[] contents = inv.getContents();
+        Set<Integer> expected = new HashSet<>();
+        if (!matches(contents, items.restart(), items.restartItem(), expected)) return false;
+        if (!matches(contents, items.checkpoint(), items.checkpointItem(), expected)) return false;
+        if (!matches(contents, items.leave(), items.leaveItem(), expected)) return false;
+        if (items.visibleItem() != null) {
+            int slot = items.hide().slot();
+            if (slot < 0 || slot >= contents.length) return false;
+            ItemStack toggle = contents[slot];
+            boolean hidden = hiddenPlayers.contains(player.getUniqueId());
+            if (!(hidden ? items.hiddenItem() : items.visibleItem()).isSimilar(toggle)) return false;
+            expected.add(slot);
+        }
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack stack = contents[slot];
+            if (stack != null && stack.getType() != Material.AIR && !expected.contains(slot)) return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(ItemStack[] contents, ConfigManager.HotbarItemConfig config, ItemStack template, Set<Integer> expected) {
+        if (template == null) return true;
+        int slot = config.slot();
+        if (slot < 0 || slot >= contents.length) return true;
+        if (!template.isSimilar(contents[slot])) return false;
+        expected.add(slot);
+        return true;
     }
 
-    private void placeHotbarItem(Player player, ConfigManager.HotbarItemConfig config, String action) {
-        if (config == null || !config.isEnabled()) return;
+    private void placeHotbarItem(Player player, ConfigManager.HotbarItemConfig config, ItemStack template, String action) {
+        if (config == null || !config.isEnabled() || template == null) return;
         if (config.slot() < 0 || config.slot() >= player.getInventory().getSize()) {
             plugin.getLogger().warning("Hotbar item '" + action + "' has invalid slot " + config.slot() + "; skipping.");
             return;
         }
-        ItemStack item = buildActionItem(config, action);
-        if (item != null) {
-            player.getInventory().setItem(config.slot(), item);
-        }
+        player.getInventory().setItem(config.slot(), template.clone());
     }
 
     private ItemStack buildActionItem(ConfigManager.HotbarItemConfig config, String action) {
@@ -173,38 +254,29 @@ public class SessionManager {
         return stack;
     }
 
-    private ConfigManager.ToggleHotbarItemConfig getHideToggleConfig() {
-        return configManager.getToggleHotbarItem(
-                "hide",
-                2,
-                Material.ENDER_EYE,
-                messageManager.getItemName("hide", "&fHide Players"),
-                defaultLoreList(messageManager.getItemLore("hide", "&7Click to hide other players.")),
-                Material.ENDER_EYE,
-                messageManager.getItemName("show", "&fShow Players"),
-                defaultLoreList(messageManager.getItemLore("show", "&7Click to show other players."))
-        );
-    }
-
-    private void updateHideItem(Player player, boolean hidden, ConfigManager.ToggleHotbarItemConfig toggleConfig) {
-        if (toggleConfig == null) {
-            toggleConfig = getHideToggleConfig();
-        }
-        if (toggleConfig == null || !toggleConfig.isEnabled()) {
-            return;
-        }
-        ConfigManager.HotbarItemConfig state = hidden ? toggleConfig.hiddenState() : toggleConfig.visibleState();
+    private ItemStack buildToggleItem(ConfigManager.HotbarItemConfig state, boolean hidden) {
         ItemStack item = buildActionItem(state, "toggle-players");
-        if (item == null) return;
+        if (item == null) return null;
         ItemMeta meta = item.getItemMeta();
         if (meta != null) {
             meta.getPersistentDataContainer().set(toggleStateKey, PersistentDataType.BYTE, hidden ? (byte) 1 : (byte) 0);
             item.setItemMeta(meta);
         }
-        if (toggleConfig.slot() >= 0 && toggleConfig.slot() < player.getInventory().getSize()) {
-            player.getInventory().setItem(toggleConfig.slot(), item);
+        return item;
+    }
+
+    private void updateHideItem(Player player, boolean hidden) {
+        HotbarItems items = hotbar();
+        ItemStack template = hidden ? items.hiddenItem() : items.visibleItem();
+        if (template == null) {
+            return;
+        }
+        int slot = items.hide().slot();
+        if (slot >= 0 && slot < player.getInventory().getSize()) {
+            player.getInventory().setItem(slot, template.clone());
         }
     }
+
     private int resolveHeldSlot(ConfigManager.HotbarItemConfig... configs) {
         if (configs != null) {
             for (ConfigManager.HotbarItemConfig config : configs) {
@@ -230,7 +302,7 @@ public class SessionManager {
             player.sendMessage(messageManager.getMessage("not-in-parkour", "&cYou are not in a parkour."));
             return;
         }
-        ConfigManager.ToggleHotbarItemConfig toggleConfig = getHideToggleConfig();
+        ConfigManager.ToggleHotbarItemConfig toggleConfig = hotbar().hide();
         if (toggleConfig == null || !toggleConfig.isEnabled()) {
             return;
         }
@@ -238,12 +310,12 @@ public class SessionManager {
         if (hiddenPlayers.contains(id)) {
             hiddenPlayers.remove(id);
             showOthers(player);
-            updateHideItem(player, false, toggleConfig);
+            updateHideItem(player, false);
             player.sendMessage(messageManager.getMessage("players-shown", "&aOther players are now visible."));
         } else {
             hiddenPlayers.add(id);
             hideOthers(player);
-            updateHideItem(player, true, toggleConfig);
+            updateHideItem(player, true);
             player.sendMessage(messageManager.getMessage("players-hidden", "&aOther players are now hidden."));
         }
     }
@@ -379,10 +451,26 @@ public class SessionManager {
         } catch (Throwable ignored) {}
     }
 
+    /**
+     * The live session; main thread only. Other threads use {@link #getSnapshot(UUID)}.
+     */
     public ParkourSession getSession(Player player) {
         return sessions.get(player.getUniqueId());
     }
 
+    /**
+     * Lock-free read of the player's running session, or {@code null}; safe from any thread.
+     */
+    public SessionSnapshot getSnapshot(UUID player) {
+        if (player == null) return null;
+        ParkourSession session = sessions.get(player);
+        return session != null ? session.getSnapshot() : null;
+    }
+
+    public boolean hasActiveSessions() {
+        return !sessions.isEmpty();
+    }
+
     public void resetToStart(Player player) {
         ParkourSession session = getSession(player);
         if (session == null) {
@@ -0,0 +1,18 @@
+package com.pikaronga.parkour.session;
+
+import com.pikaronga.parkour.course.ParkourCourse;
+
+import java.util.UUID;
+
+/**
+ * Immutable view of a running session, safe to read from any thread (placeholders, scoreboards, metrics).
+ * A new snapshot is published whenever the session's timer or checkpoint changes.
+ *
+ * @param checkpointIndex 0-based index into the course's checkpoints of the last one reached, -1 for none
+ */
+public record SessionSnapshot(UUID player, ParkourCourse course, long startTimeNanos, int checkpointIndex, boolean testMode) {
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startTimeNanos;
+    }
+}
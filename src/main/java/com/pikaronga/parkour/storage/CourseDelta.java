@@ -0,0 +1,83 @@
+package com.pikaronga.parkour.storage;
+
+import com.pikaronga.parkour.course.Checkpoint;
+import com.pikaronga.parkour.course.ParkourCourse;
+import com.pikaronga.parkour.player.PlotRegion;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Detached copy of the changed parts of one course, captured on the main thread and written off it.
+ * Only the parts flagged in {@code parts} (see {@code ParkourCourse.CHANGED_*}) carry data; ratings hold
+ * either every rating ({@code CHANGED_RATINGS}) or just the {@code raters} that changed, where a null means "none";
+ * the rating sums/counts are the course's aggregates at capture time.
+ */
+public record CourseDelta(ParkourCourse course, String name, int parts, Set<UUID> raters,
+                          String world, Location startTeleport, Location startPlate,
+                          Location finishTeleport, Location finishPlate,
+                          Integer staffDifficulty, boolean published, PlotRegion plot,
+                          Location topHologram, Location bestHologram, Location creatorHologram,
+                          List<UUID> creators, List<Checkpoint> checkpoints,
+                          Map<UUID, Integer> looks, Map<UUID, Integer> difficulties,
+                          int lookSum, int lookCount, int difficultySum, int difficultyCount) {
+
+    boolean has(int part) {
+        return (parts & part) != 0;
+    }
+
+    boolean hasRatings() {
+        return has(ParkourCourse.CHANGED_RATINGS) || !looks.isEmpty() || !difficulties.isEmpty();
+    }
+
+    /**
+     * Captures the course's unsaved parts and clears them on the course. Main thread only.
+     */
+    static CourseDelta capture(ParkourCourse c, String world) {
+        int parts = c.getUnsavedChanges();
+        Set<UUID> raters = new HashSet<>(c.getChangedRaters());
+        c.clearUnsavedChanges();
+        if (!c.isDetailsLoaded()) {
+            // Ratings are only ever set while loaded, and the table already holds the rest
+            parts &= ~ParkourCourse.CHANGED_RATINGS;
+            raters.clear();
+        }
+        boolean row = (parts & ParkourCourse.CHANGED_ROW) != 0;
+        List<UUID> creators = (parts & ParkourCourse.CHANGED_CREATORS) != 0 ? new ArrayList<>(c.getCreators()) : List.of();
+        List<Checkpoint> checkpoints = new ArrayList<>();
+        if ((parts & ParkourCourse.CHANGED_CHECKPOINTS) != 0) {
+            for (Checkpoint cp : c.getCheckpoints()) {
+                checkpoints.add(new Checkpoint(copy(cp.plateLocation()), copy(cp.respawnLocation())));
+            }
+        }
+        Map<UUID, Integer> looks = new HashMap<>();
+        Map<UUID, Integer> difficulties = new HashMap<>();
+        if ((parts & ParkourCourse.CHANGED_RATINGS) != 0) {
+            looks.putAll(c.getLookRatings());
+            difficulties.putAll(c.getDifficultyRatings());
+        } else {
+            for (UUID u : raters) {
+                looks.put(u, c.getLookRatings().get(u));
+                difficulties.put(u, c.getDifficultyRatings().get(u));
+            }
+        }
+        return new CourseDelta(c, c.getName(), parts, raters, world,
+                row ? copy(c.getStartTeleport()) : null, row ? copy(c.getStartPlate()) : null,
+                row ? copy(c.getFinishTeleport()) : null, row ? copy(c.getFinishPlate()) : null,
+                c.getStaffDifficulty(), c.isPublished(), c.getPlotRegion(),
+                row ? copy(c.getTopHologramLocation()) : null, row ? copy(c.getBestHologramLocation()) : null,
+                row ? copy(c.getCreatorHologramLocation()) : null,
+                creators, checkpoints, looks, difficulties,
+                c.getLookRatingSum(), c.getLookRatingCount(), c.getDifficultyRatingSum(), c.getDifficultyRatingCount());
+    }
+
+    private static Location copy(Location l) {
+        return l == null ? null : l.clone();
+    }
+}
@@ -0,0 +1,156 @@
+package com.pikaronga.parkour.storage;
+
+import com.pikaronga.parkour.course.ParkourCourse;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Incremental course persistence. Changed courses are captured on the main thread (coalesced to once per tick)
+ * and written as one batch on the single "Parkour-CourseWrite" thread. Other course-level writes (deletes,
+ * renames, time snapshots) go through {@link #submit} so they apply in the order they were issued.
+ */
+public class CourseWriteQueue {
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(List<CourseDelta> batch) throws Exception;
+    }
+
+    private final Plugin plugin;
+    private final Function<ParkourCourse, CourseDelta> capture;
+    private final Predicate<ParkourCourse> registered;
+    private final Writer writer;
+    private final ExecutorService executor;
+    // Main thread only
+    private final Set<ParkourCourse> changed = new LinkedHashSet<>();
+    private boolean flushScheduled = false;
+    private final AtomicInteger depth = new AtomicInteger();
+    // Courses with a captured batch not yet written (or waiting to be re-marked after a failure); the cache keeps
+    // these loaded so a retry can capture the same ratings again
+    private final java.util.Map<ParkourCourse, Integer> unconfirmed = new java.util.concurrent.ConcurrentHashMap<>();
+    private volatile boolean shuttingDown = false;
+
+    public CourseWriteQueue(Plugin plugin, Function<ParkourCourse, CourseDelta> capture, Predicate<ParkourCourse> registered, Writer writer) {
+        this.plugin = plugin;
+        this.capture = capture;
+        this.registered = registered;
+        this.writer = writer;
+        this.executor = java.util.concurrent.Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Parkour-CourseWrite");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Queues the course for the next flush (end of the current tick). Main thread.
+     */
+    public void courseChanged(ParkourCourse course) {
+        changed.add(course);
+        if (flushScheduled || shuttingDown) return;
+        flushScheduled = true;
+        try {
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        } catch (Throwable t) {
+            flushScheduled = false;
+        }
+    }
+
+    /**
+     * Captures every queued course now and hands the batch to the writer thread. Main thread.
+     * Anything submitted afterwards is written after this batch.
+     */
+    public void flush() {
+        flushScheduled = false;
+        if (changed.isEmpty()) return;
+        List<CourseDelta> batch = new ArrayList<>(changed.size());
+        for (ParkourCourse course : changed) {
+            // Courses removed meanwhile (deleted or renamed) are not written back
+            if (registered.test(course) && course.hasUnsavedChanges()) batch.add(capture.apply(course));
+        }
+        changed.clear();
+        if (batch.isEmpty()) return;
+        depth.addAndGet(batch.size());
+        for (CourseDelta d : batch) unconfirmed.merge(d.course(), 1, Integer::sum);
+        submit(() -> writeSafely(batch));
+    }
+
+    /**
+     * Runs {@code task} on the writer thread after everything submitted before it (on the caller's thread once shut down).
+     */
+    public void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    /**
+     * True while a captured change of the course has not been written yet, including a failed one awaiting retry.
+     */
+    public boolean isUnconfirmed(ParkourCourse course) {
+        return unconfirmed.containsKey(course);
+    }
+
+    /**
+     * Number of captured course changes not yet written.
+     */
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Flushes what is queued and waits up to {@code timeoutMs} for the writer thread to finish. Main thread.
+     */
+    public void shutdown(long timeoutMs) {
+        flush();
+        shuttingDown = true;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeSafely(List<CourseDelta> batch) {
+        try {
+            writer.write(batch);
+            confirm(batch);
+        } catch (Throwable t) {
+            try { plugin.getLogger().warning("Failed to persist changes to " + batch.size() + " course(s), will retry: " + t.getMessage()); } catch (Throwable ignored) {}
+            if (shuttingDown) {
+                confirm(batch);
+                return;
+            }
+            try {
+                // Re-mark on the main thread; the restored parts are captured again with current data. The courses
+                // stay unconfirmed until then, so they cannot be paged out and lose the restored raters
+                Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                    for (CourseDelta d : batch) d.course().restoreUnsavedChanges(d.parts(), d.raters());
+                    confirm(batch);
+                }, 100L);
+            } catch (Throwable ignored) {
+                confirm(batch);
+            }
+        } finally {
+            depth.addAndGet(-batch.size());
+        }
+    }
+
+    private void confirm(List<CourseDelta> batch) {
+        for (CourseDelta d : batch) unconfirmed.computeIfPresent(d.course(), (c, n) -> n > 1 ? n - 1 : null);
+    }
+}
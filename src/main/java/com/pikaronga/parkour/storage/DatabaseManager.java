@@ -3,17 +3,59 @@ package com.pikaronga.parkour.storage;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Small SQLite connection pool: one long-lived writer (serialized by a lock) plus up to N read-only readers.
+ * Connections run in WAL mode so readers never block the writer. Handed-out connections are proxies:
+ * {@code close()} returns them to the pool and {@code prepareStatement(String)} reuses cached statements.
+ * Leases are re-entrant per thread, so nested {@code getConnection()} calls share the outer connection.
+ */
 public class DatabaseManager {
     private final JavaPlugin plugin;
     private final String url;
+    private final Settings settings;
+
+    private final ReentrantLock writeLock = new ReentrantLock(true);
+    private Physical writer;
+
+    private final LinkedBlockingQueue<Physical> idleReaders = new LinkedBlockingQueue<>();
+    private final List<Physical> allReaders = new ArrayList<>();
+    private final ThreadLocal<Lease> readLease = new ThreadLocal<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Pool tuning, read from the {@code database.pool} section of config.yml.
+     */
+    public record Settings(int readers, int statementCacheSize, String journalMode, String synchronous,
+                           int cacheSizeKb, long mmapSizeBytes, int busyTimeoutMs) {
+        public static Settings defaults() {
+            return new Settings(3, 64, "WAL", "NORMAL", 8192, 64L * 1024 * 1024, 5000);
+        }
+    }
 
     public DatabaseManager(JavaPlugin plugin) {
         this.plugin = plugin;
+        Settings configured = Settings.defaults();
+        try {
+            if (plugin instanceof com.pikaronga.parkour.ParkourPlugin p && p.getConfigManager() != null) {
+                configured = p.getConfigManager().databasePoolSettings();
+            }
+        } catch (Throwable ignored) {}
+        this.settings = configured;
         File folder = plugin.getDataFolder();
         if (!folder.exists()) {
             //noinspection ResultOfMethodCallIgnored
@@ -28,13 +70,357 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * Connection for writes (and reads that must see the caller's own uncommitted changes).
+     * Only one thread holds the writer at a time; close it promptly.
+     */
     public Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(url);
+        return getWriteConnection();
+    }
+
+    public Connection getWriteConnection() throws SQLException {
+        if (closed) throw new SQLException("Database pool is closed");
+        try {
+            if (!writeLock.tryLock(30, TimeUnit.SECONDS)) {
+                throw new SQLException("Timed out waiting for the SQLite writer connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the SQLite writer connection", e);
+        }
+        try {
+            if (writer == null || writer.connection.isClosed()) {
+                writer = open(false);
+            }
+        } catch (SQLException e) {
+            writeLock.unlock();
+            throw e;
+        }
+        boolean outermost = writeLock.getHoldCount() == 1;
+        Physical phys = writer;
+        return wrap(phys, () -> {
+            if (outermost) phys.reset();
+            writeLock.unlock();
+        });
+    }
+
+    /**
+     * Read-only connection from the reader pool (query_only). Falls back to waiting when all readers are busy.
+     */
+    public Connection getReadConnection() throws SQLException {
+        if (closed) throw new SQLException("Database pool is closed");
+        Lease lease = readLease.get();
+        if (lease != null) {
+            lease.depth++;
+            return wrap(lease.physical, () -> releaseRead(lease));
+        }
+        Physical phys = idleReaders.poll();
+        if (phys == null) {
+            synchronized (allReaders) {
+                if (allReaders.size() < Math.max(1, settings.readers())) {
+                    phys = open(true);
+                    allReaders.add(phys);
+                }
+            }
+        }
+        if (phys == null) {
+            try {
+                phys = idleReaders.poll(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a SQLite reader connection", e);
+            }
+            if (phys == null) throw new SQLException("Timed out waiting for a SQLite reader connection");
+        }
+        Lease created = new Lease(phys);
+        readLease.set(created);
+        return wrap(phys, () -> releaseRead(created));
+    }
+
+    /**
+     * Closes every pooled connection. Call after all pending writes were flushed.
+     */
+    public void close() {
+        closed = true;
+        writeLock.lock();
+        try {
+            if (writer != null) writer.closeQuietly();
+            writer = null;
+        } finally {
+            writeLock.unlock();
+        }
+        synchronized (allReaders) {
+            for (Physical phys : allReaders) phys.closeQuietly();
+            allReaders.clear();
+            idleReaders.clear();
+        }
+    }
+
+    private void releaseRead(Lease lease) {
+        if (--lease.depth > 0) return;
+        readLease.remove();
+        lease.physical.reset();
+        if (closed) {
+            lease.physical.closeQuietly();
+        } else {
+            idleReaders.offer(lease.physical);
+        }
+    }
+
+    private Physical open(boolean readOnly) throws SQLException {
+        Connection conn = DriverManager.getConnection(url);
+        try (Statement st = conn.createStatement()) {
+            try { st.execute("PRAGMA journal_mode=" + settings.journalMode()); } catch (SQLException ignored) {}
+            st.execute("PRAGMA synchronous=" + settings.synchronous());
+            st.execute("PRAGMA foreign_keys=ON");
+            st.execute("PRAGMA busy_timeout=" + Math.max(0, settings.busyTimeoutMs()));
+            // Negative cache_size is in KiB rather than pages
+            st.execute("PRAGMA cache_size=-" + Math.max(0, settings.cacheSizeKb()));
+            st.execute("PRAGMA mmap_size=" + Math.max(0L, settings.mmapSizeBytes()));
+            st.execute("PRAGMA temp_store=MEMORY");
+            if (readOnly) st.execute("PRAGMA query_only=ON");
+        } catch (SQLException e) {
+            try { conn.close(); } catch (SQLException ignored) {}
+            throw e;
+        }
+        return new Physical(conn, Math.max(0, settings.statementCacheSize()));
+    }
+
+    private Connection wrap(Physical phys, Runnable release) {
+        boolean[] released = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    if (!released[0]) {
+                        released[0] = true;
+                        release.run();
+                    }
+                    return null;
+                case "isClosed":
+                    return released[0] || phys.connection.isClosed();
+                case "unwrap":
+                    if (args != null && args[0] == Connection.class) return proxy;
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection{" + phys.connection + "}";
+                default:
+                    break;
+            }
+            if (released[0]) throw new SQLException("Connection already returned to the pool");
+            if (method.getName().equals("prepareStatement") && args != null && args.length == 1 && args[0] instanceof String sql) {
+                return phys.prepare(sql);
+            }
+            try {
+                return method.invoke(phys.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private static final class Lease {
+        final Physical physical;
+        int depth = 1;
+
+        Lease(Physical physical) {
+            this.physical = physical;
+        }
+    }
+
+    /**
+     * One real JDBC connection plus its LRU prepared-statement cache.
+     */
+    private static final class Physical {
+        final Connection connection;
+        final int cacheSize;
+        final Map<String, PreparedStatement> statements;
+        final java.util.Set<PreparedStatement> inUse = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>());
+
+        Physical(Connection connection, int cacheSize) {
+            this.connection = connection;
+            this.cacheSize = cacheSize;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > Physical.this.cacheSize && !inUse.contains(eldest.getValue())) {
+                        try { eldest.getValue().close(); } catch (SQLException ignored) {}
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement cached = cacheSize > 0 ? statements.get(sql) : null;
+            if (cached != null && cached.isClosed()) {
+                statements.remove(sql);
+                cached = null;
+            }
+            if (cached != null && !inUse.contains(cached)) {
+                inUse.add(cached);
+                return lend(cached);
+            }
+            PreparedStatement fresh = connection.prepareStatement(sql);
+            if (cacheSize <= 0 || cached != null) {
+                // Not cacheable (cache off, or same SQL already lent out): hand out a plain statement
+                return fresh;
+            }
+            statements.put(sql, fresh);
+            inUse.add(fresh);
+            return lend(fresh);
+        }
+
+        private PreparedStatement lend(PreparedStatement target) {
+            boolean[] returned = new boolean[1];
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        if (!returned[0]) {
+                            returned[0] = true;
+                            try { target.clearParameters(); } catch (SQLException ignored) {}
+                            try { target.clearBatch(); } catch (SQLException ignored) {}
+                            inUse.remove(target);
+                        }
+                        return null;
+                    case "isClosed":
+                        return returned[0] || target.isClosed();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        break;
+                }
+                if (returned[0]) throw new SQLException("Statement already closed");
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        void reset() {
+            try {
+                if (!connection.getAutoCommit()) {
+                    // Match plain-JDBC close semantics: uncommitted work is discarded
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException ignored) {}
+        }
+
+        void closeQuietly() {
+            for (PreparedStatement ps : statements.values()) {
+                try { ps.close(); } catch (SQLException ignored) {}
+            }
+            statements.clear();
+            try { connection.close(); } catch (SQLException ignored) {}
+        }
+    }
+
+    /* =========================================================
+     *                    SCHEMA MIGRATIONS
+     * ========================================================= */
+    @FunctionalInterface
+    private interface SchemaStep {
+        void apply(Connection conn) throws SQLException;
+    }
+
+    /**
+     * One schema change. Applied at most once, in version order, inside its own transaction,
+     * and recorded in {@code schema_version}. Never edit a released step; append a new one.
+     */
+    private record Migration(int version, String description, SchemaStep step) {
+    }
+
+    private List<Migration> migrations() {
+        return List.of(
+                new Migration(1, "base schema", this::createBaseSchema),
+                new Migration(2, "BLOB UUIDs and integer course ids", this::migrateToV2),
+                new Migration(3, "stored rating aggregates", this::addRatingAggregates),
+                new Migration(4, "one-off maintenance tasks", this::addMaintenanceTasks)
+        );
     }
 
     private void setup() throws SQLException {
         try (Connection conn = getConnection(); Statement st = conn.createStatement()) {
-            st.executeUpdate("PRAGMA foreign_keys = ON");
+            st.executeUpdate("CREATE TABLE IF NOT EXISTS schema_version (\n" +
+                    " version INTEGER PRIMARY KEY,\n" +
+                    " description TEXT NOT NULL,\n" +
+                    " applied_at INTEGER NOT NULL,\n" +
+                    " duration_ms INTEGER NOT NULL\n" +
+                    ")");
+            int current = currentVersion(st);
+            if (current == 0) {
+                // Databases from before schema_version only recorded the v2 rewrite, in PRAGMA user_version
+                current = baseline(conn, st);
+            }
+            boolean rewritten = false;
+            for (Migration m : migrations()) {
+                if (m.version() <= current) continue;
+                long started = System.nanoTime();
+                conn.setAutoCommit(false);
+                try {
+                    m.step().apply(conn);
+                    long ms = (System.nanoTime() - started) / 1_000_000L;
+                    recordVersion(conn, m, ms);
+                    conn.commit();
+                    plugin.getLogger().info("Applied schema migration " + m.version() + " (" + m.description() + ") in " + ms + " ms.");
+                } catch (SQLException e) {
+                    try { conn.rollback(); } catch (SQLException ignored) {}
+                    throw new SQLException("Schema migration " + m.version() + " (" + m.description() + ") failed, database left at version " + current + ": " + e.getMessage(), e);
+                } finally {
+                    conn.setAutoCommit(true);
+                }
+                current = m.version();
+                rewritten |= m.version() == SCHEMA_V2;
+            }
+            if (rewritten) {
+                // The v2 rewrite leaves the old pages free; give the space back once
+                try { st.execute("VACUUM"); } catch (SQLException ignored) {}
+            }
+        }
+    }
+
+    private static int currentVersion(Statement st) throws SQLException {
+        try (java.sql.ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private int baseline(Connection conn, Statement st) throws SQLException {
+        int legacy;
+        try (java.sql.ResultSet rs = st.executeQuery("PRAGMA user_version")) {
+            legacy = rs.next() ? rs.getInt(1) : 0;
+        }
+        if (legacy < SCHEMA_V2) return 0;
+        for (Migration m : migrations()) {
+            if (m.version() <= SCHEMA_V2) recordVersion(conn, m, 0L);
+        }
+        return SCHEMA_V2;
+    }
+
+    private static void recordVersion(Connection conn, Migration m, long durationMs) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("INSERT INTO schema_version(version, description, applied_at, duration_ms) VALUES(?,?,strftime('%s','now'),?)")) {
+            ps.setInt(1, m.version());
+            ps.setString(2, m.description());
+            ps.setLong(3, durationMs);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Version 1: the original layout. Idempotent, since databases created before schema_version
+     * already hold some or all of it (possibly without the later plot and hologram columns).
+     */
+    private void createBaseSchema(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
             st.executeUpdate("CREATE TABLE IF NOT EXISTS parkours (\n" +
                     " id INTEGER PRIMARY KEY AUTOINCREMENT,\n" +
                     " name TEXT UNIQUE NOT NULL,\n" +
@@ -69,7 +455,6 @@ public class DatabaseManager {
                     " PRIMARY KEY (parkour_id, uuid),\n" +
                     " FOREIGN KEY (parkour_id) REFERENCES parkours(id) ON DELETE CASCADE\n" +
                     ")");
-            // Ratings (per-player look and difficulty 1-5)
             st.executeUpdate("CREATE TABLE IF NOT EXISTS ratings (\n" +
                     " parkour_id INTEGER NOT NULL,\n" +
                     " uuid TEXT NOT NULL,\n" +
@@ -78,31 +463,6 @@ public class DatabaseManager {
                     " PRIMARY KEY (parkour_id, uuid),\n" +
                     " FOREIGN KEY (parkour_id) REFERENCES parkours(id) ON DELETE CASCADE\n" +
                     ")");
-            // Performance indexes for lookups and leaderboards
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_parkours_name ON parkours(name)");
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_creators_uuid ON creators(uuid)");
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_times_parkour_best ON times(parkour_id, best_nanos)");
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_checkpoints_p_on ON checkpoints(parkour_id, ord)");
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_ratings_parkour ON ratings(parkour_id)");
-
-            // Add missing column for legacy installs
-            try { st.executeUpdate("ALTER TABLE times ADD COLUMN last_updated INTEGER"); } catch (SQLException ignored) {}
-
-            // Extra columns for plot region and holograms (ALTER TABLE if missing)
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN plot_min_x INTEGER"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN plot_min_z INTEGER"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN plot_size INTEGER"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN top_holo_x REAL"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN top_holo_y REAL"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN top_holo_z REAL"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN best_holo_x REAL"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN best_holo_y REAL"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN best_holo_z REAL"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN creator_holo_x REAL"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN creator_holo_y REAL"); } catch (SQLException ignored) {}
-            try { st.executeUpdate("ALTER TABLE parkours ADD COLUMN creator_holo_z REAL"); } catch (SQLException ignored) {}
-
-            // Run counters (per-player and totals) for accurate completion counts
             st.executeUpdate("CREATE TABLE IF NOT EXISTS parkour_runs (\n" +
                     " course TEXT NOT NULL,\n" +
                     " player TEXT NOT NULL,\n" +
@@ -113,16 +473,236 @@ public class DatabaseManager {
                     " course TEXT NOT NULL PRIMARY KEY,\n" +
                     " total_runs INTEGER NOT NULL DEFAULT 0\n" +
                     ")");
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_runs_course ON parkour_runs(course)");
-
-            // Global per-player stats
             st.executeUpdate("CREATE TABLE IF NOT EXISTS parkour_stats (\n" +
                     " uuid TEXT NOT NULL PRIMARY KEY,\n" +
                     " total_runs INTEGER NOT NULL DEFAULT 0,\n" +
                     " completed_courses INTEGER NOT NULL DEFAULT 0,\n" +
                     " last_run INTEGER\n" +
                     ")");
-            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_stats_uuid ON parkour_stats(uuid)");
+            st.executeUpdate("CREATE TABLE IF NOT EXISTS player_names (\n" +
+                    " uuid TEXT NOT NULL PRIMARY KEY,\n" +
+                    " name TEXT NOT NULL,\n" +
+                    " updated_at INTEGER NOT NULL\n" +
+                    ")");
+
+            // Columns added after the first release
+            addMissingColumns(conn, "times", "last_updated INTEGER");
+            addMissingColumns(conn, "parkours",
+                    "plot_min_x INTEGER", "plot_min_z INTEGER", "plot_size INTEGER",
+                    "top_holo_x REAL", "top_holo_y REAL", "top_holo_z REAL",
+                    "best_holo_x REAL", "best_holo_y REAL", "best_holo_z REAL",
+                    "creator_holo_x REAL", "creator_holo_y REAL", "creator_holo_z REAL");
+
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_parkours_name ON parkours(name)");
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_checkpoints_p_on ON checkpoints(parkour_id, ord)");
+        }
+    }
+
+    private static void addMissingColumns(Connection conn, String table, String... definitions) throws SQLException {
+        java.util.Set<String> present = new java.util.HashSet<>();
+        try (Statement st = conn.createStatement(); java.sql.ResultSet rs = st.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) present.add(rs.getString("name").toLowerCase());
+        }
+        try (Statement st = conn.createStatement()) {
+            for (String definition : definitions) {
+                String column = definition.substring(0, definition.indexOf(' '));
+                if (!present.contains(column)) st.executeUpdate("ALTER TABLE " + table + " ADD COLUMN " + definition);
+            }
+        }
+    }
+
+    /* =========================================================
+     *            SCHEMA V2: BLOB UUIDS, INTEGER COURSE IDS
+     * ========================================================= */
+    private static final int SCHEMA_V2 = 2;
+
+    /** Maintenance task: drop the world force-load flag the armor stand backend left on personal-best hologram chunks. */
+    public static final String TASK_CLEAR_LEGACY_FORCELOAD = "clear-legacy-forceload";
+
+    // Column definitions of the player/course tables in schema v2, by table name
+    private static final Map<String, String> V2_TABLES = new LinkedHashMap<>();
+
+    static {
+        V2_TABLES.put("creators", " parkour_id INTEGER NOT NULL,\n" +
+                " uuid BLOB NOT NULL,\n" +
+                " PRIMARY KEY (parkour_id, uuid),\n" +
+                " FOREIGN KEY (parkour_id) REFERENCES parkours(id) ON DELETE CASCADE\n" +
+                ") WITHOUT ROWID");
+        V2_TABLES.put("times", " parkour_id INTEGER NOT NULL,\n" +
+                " uuid BLOB NOT NULL,\n" +
+                " best_nanos INTEGER NOT NULL,\n" +
+                " last_updated INTEGER,\n" +
+                " PRIMARY KEY (parkour_id, uuid),\n" +
+                " FOREIGN KEY (parkour_id) REFERENCES parkours(id) ON DELETE CASCADE\n" +
+                ") WITHOUT ROWID");
+        // Ratings (per-player look and difficulty 1-5)
+        V2_TABLES.put("ratings", " parkour_id INTEGER NOT NULL,\n" +
+                " uuid BLOB NOT NULL,\n" +
+                " look INTEGER,\n" +
+                " difficulty INTEGER,\n" +
+                " PRIMARY KEY (parkour_id, uuid),\n" +
+                " FOREIGN KEY (parkour_id) REFERENCES parkours(id) ON DELETE CASCADE\n" +
+                ") WITHOUT ROWID");
+        // Run counters (per-player and totals) for accurate completion counts
+        V2_TABLES.put("parkour_runs", " parkour_id INTEGER NOT NULL,\n" +
+                " player BLOB NOT NULL,\n" +
+                " runs INTEGER NOT NULL DEFAULT 0,\n" +
+                " PRIMARY KEY (parkour_id, player),\n" +
+                " FOREIGN KEY (parkour_id) REFERENCES parkours(id) ON DELETE CASCADE\n" +
+                ") WITHOUT ROWID");
+        V2_TABLES.put("parkour_run_totals", " parkour_id INTEGER NOT NULL PRIMARY KEY,\n" +
+                " total_runs INTEGER NOT NULL DEFAULT 0,\n" +
+                " FOREIGN KEY (parkour_id) REFERENCES parkours(id) ON DELETE CASCADE\n" +
+                ")");
+        // Global per-player stats
+        V2_TABLES.put("parkour_stats", " uuid BLOB NOT NULL PRIMARY KEY,\n" +
+                " total_runs INTEGER NOT NULL DEFAULT 0,\n" +
+                " completed_courses INTEGER NOT NULL DEFAULT 0,\n" +
+                " last_run INTEGER\n" +
+                ") WITHOUT ROWID");
+        // Last known name per player, so leaderboards never need the server's user cache
+        V2_TABLES.put("player_names", " uuid BLOB NOT NULL PRIMARY KEY,\n" +
+                " name TEXT NOT NULL,\n" +
+                " updated_at INTEGER NOT NULL\n" +
+                ") WITHOUT ROWID");
+    }
+
+    // Copies legacy rows into v2: UUID strings become 16-byte blobs, course names become parkours.id
+    private static final Map<String, String> V2_COPY = Map.of(
+            "creators", "SELECT c.parkour_id, c.uuid FROM creators c JOIN parkours p ON p.id = c.parkour_id",
+            "times", "SELECT t.parkour_id, t.uuid, t.best_nanos, t.last_updated FROM times t JOIN parkours p ON p.id = t.parkour_id",
+            "ratings", "SELECT r.parkour_id, r.uuid, r.look, r.difficulty FROM ratings r JOIN parkours p ON p.id = r.parkour_id",
+            "parkour_runs", "SELECT p.id, r.player, r.runs FROM parkour_runs r JOIN parkours p ON p.name = r.course",
+            "parkour_run_totals", "SELECT p.id, t.total_runs FROM parkour_run_totals t JOIN parkours p ON p.name = t.course",
+            "parkour_stats", "SELECT uuid, total_runs, completed_courses, last_run FROM parkour_stats",
+            "player_names", "SELECT uuid, name, updated_at FROM player_names"
+    );
+
+    // 1-based columns of each copy query that hold a UUID string
+    private static final Map<String, int[]> V2_UUID_COLUMNS = Map.of(
+            "creators", new int[]{2},
+            "times", new int[]{2},
+            "ratings", new int[]{2},
+            "parkour_runs", new int[]{2},
+            "parkour_run_totals", new int[0],
+            "parkour_stats", new int[]{1},
+            "player_names", new int[]{1}
+    );
+
+    // Legacy UUID text differing only in case maps to the same blob; such rows are merged instead of dropped
+    private static final Map<String, String> V2_MERGE = Map.of(
+            "creators", "ON CONFLICT DO NOTHING",
+            "times", "ON CONFLICT(parkour_id, uuid) DO UPDATE SET best_nanos = MIN(best_nanos, excluded.best_nanos), " +
+                    "last_updated = MAX(COALESCE(last_updated, 0), COALESCE(excluded.last_updated, 0))",
+            "ratings", "ON CONFLICT DO NOTHING",
+            "parkour_runs", "ON CONFLICT(parkour_id, player) DO UPDATE SET runs = runs + excluded.runs",
+            "parkour_run_totals", "ON CONFLICT(parkour_id) DO UPDATE SET total_runs = total_runs + excluded.total_runs",
+            // Completions may overlap between the two spellings, so keep the larger count rather than the sum
+            "parkour_stats", "ON CONFLICT(uuid) DO UPDATE SET total_runs = total_runs + excluded.total_runs, " +
+                    "completed_courses = MAX(completed_courses, excluded.completed_courses), " +
+                    "last_run = MAX(COALESCE(last_run, 0), COALESCE(excluded.last_run, 0))",
+            "player_names", "ON CONFLICT(uuid) DO UPDATE SET name = CASE WHEN excluded.updated_at > updated_at THEN excluded.name ELSE name END, " +
+                    "updated_at = MAX(updated_at, excluded.updated_at)"
+    );
+
+    private static String createV2(String table, String as) {
+        return "CREATE TABLE IF NOT EXISTS " + as + " (\n" + V2_TABLES.get(table);
+    }
+
+    /**
+     * Version 2: rewrites every player/course table into its v2 layout. Each table is copied into a
+     * {@code <name>_v2} twin, dropped and the twin renamed in its place; the caller's transaction covers all of it.
+     * Rows whose UUID does not parse, or whose course no longer exists, are dropped; rows whose UUID text differs
+     * only in case are merged (see {@code V2_MERGE}).
+     */
+    private void migrateToV2(Connection conn) throws SQLException {
+        long copied = 0;
+        try (Statement st = conn.createStatement()) {
+            for (String table : V2_TABLES.keySet()) {
+                String twin = table + "_v2";
+                st.executeUpdate("DROP TABLE IF EXISTS " + twin);
+                st.executeUpdate(createV2(table, twin));
+                copied += copyRows(conn, V2_COPY.get(table), twin, V2_UUID_COLUMNS.get(table), V2_MERGE.get(table));
+                st.executeUpdate("DROP TABLE " + table);
+                st.executeUpdate("ALTER TABLE " + twin + " RENAME TO " + table);
+            }
+            // Primary keys already cover the per-course and per-player lookups
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_creators_uuid ON creators(uuid)");
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_times_parkour_best ON times(parkour_id, best_nanos)");
+        }
+        if (copied > 0) plugin.getLogger().info("Copied " + copied + " row(s) into the v2 layout.");
+    }
+
+    /**
+     * Returns the number of rows written (inserted or merged into an existing one), as reported by the batches.
+     */
+    private static long copyRows(Connection conn, String select, String into, int[] uuidColumns, String onConflict) throws SQLException {
+        long copied = 0;
+        try (Statement st = conn.createStatement(); java.sql.ResultSet rs = st.executeQuery(select)) {
+            int cols = rs.getMetaData().getColumnCount();
+            String marks = String.join(",", java.util.Collections.nCopies(cols, "?"));
+            try (PreparedStatement ins = conn.prepareStatement("INSERT INTO " + into + " VALUES(" + marks + ") " + onConflict)) {
+                int pending = 0;
+                rows:
+                while (rs.next()) {
+                    for (int i = 1; i <= cols; i++) {
+                        Object value = rs.getObject(i);
+                        for (int u : uuidColumns) {
+                            if (u != i) continue;
+                            value = UuidBytes.fromString(value != null ? value.toString() : null);
+                            if (value == null) continue rows;
+                        }
+                        ins.setObject(i, value);
+                    }
+                    ins.addBatch();
+                    if (++pending >= 1000) {
+                        copied += written(ins.executeBatch());
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) copied += written(ins.executeBatch());
+            }
+        }
+        return copied;
+    }
+
+    private static long written(int[] counts) {
+        long n = 0;
+        for (int c : counts) n += Math.max(0, c);
+        return n;
+    }
+
+    /**
+     * Version 3: per-course rating sum/count columns on {@code parkours}, kept current by every rating write,
+     * so loading a course never aggregates the ratings table. Backfilled once from the existing ratings.
+     */
+    private void addRatingAggregates(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            for (String col : new String[]{"look_sum", "look_count", "difficulty_sum", "difficulty_count"}) {
+                st.executeUpdate("ALTER TABLE parkours ADD COLUMN " + col + " INTEGER NOT NULL DEFAULT 0");
+            }
+            st.executeUpdate("UPDATE parkours SET " +
+                    "look_sum = (SELECT COALESCE(SUM(look),0) FROM ratings r WHERE r.parkour_id = parkours.id), " +
+                    "look_count = (SELECT COUNT(look) FROM ratings r WHERE r.parkour_id = parkours.id), " +
+                    "difficulty_sum = (SELECT COALESCE(SUM(difficulty),0) FROM ratings r WHERE r.parkour_id = parkours.id), " +
+                    "difficulty_count = (SELECT COUNT(difficulty) FROM ratings r WHERE r.parkour_id = parkours.id)");
+        }
+    }
+
+    /**
+     * Version 4: tasks that must run once after an update but need the server (worlds, chunks), so they cannot be
+     * part of a migration. Each row stays pending ({@code done_at} null) until the plugin has carried it out.
+     */
+    private void addMaintenanceTasks(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.executeUpdate("CREATE TABLE IF NOT EXISTS maintenance_tasks (\n" +
+                    " name TEXT PRIMARY KEY,\n" +
+                    " done_at INTEGER\n" +
+                    ")");
+        }
+        try (PreparedStatement ps = conn.prepareStatement("INSERT OR IGNORE INTO maintenance_tasks(name) VALUES(?)")) {
+            ps.setString(1, TASK_CLEAR_LEGACY_FORCELOAD);
+            ps.executeUpdate();
         }
     }
 }
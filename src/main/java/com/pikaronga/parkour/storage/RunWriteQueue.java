@@ -0,0 +1,236 @@
+package com.pikaronga.parkour.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind buffer for run completions. Completions are merged per (course, player) and handed to
+ * the writer as one batch every {@code intervalMs}, or as soon as {@code maxBatch} pairs are pending.
+ * All writes happen on the single "Parkour-RunWrite" thread, so batches never interleave.
+ */
+public class RunWriteQueue {
+
+    /**
+     * Merged completions for one player on one course since the last flush.
+     * {@code timedRuns} are finished runs (count towards stats and best time); {@code runs} also
+     * includes counter-only increments.
+     */
+    public static final class PendingRun {
+        final String course;
+        final UUID player;
+        long bestNanos = Long.MAX_VALUE;
+        int timedRuns;
+        int runs;
+        // Failed writes so far; the run is dropped (and logged) after MAX_ATTEMPTS
+        int attempts;
+
+        PendingRun(String course, UUID player) {
+            this.course = course;
+            this.player = player;
+        }
+
+        void mergeFrom(PendingRun other) {
+            bestNanos = Math.min(bestNanos, other.bestNanos);
+            timedRuns += other.timedRuns;
+            runs += other.runs;
+            attempts = Math.max(attempts, other.attempts);
+        }
+
+        PendingRun renamed(String to) {
+            PendingRun copy = new PendingRun(to, player);
+            copy.mergeFrom(this);
+            return copy;
+        }
+
+        @Override
+        public String toString() {
+            return course + "/" + player + " (runs=" + runs + ", timed=" + timedRuns
+                    + (bestNanos != Long.MAX_VALUE ? ", best=" + bestNanos + "ns" : "") + ")";
+        }
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(List<PendingRun> batch) throws Exception;
+    }
+
+    private record Key(String course, UUID player) {
+    }
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final Writer writer;
+    private final Logger logger;
+    private final int maxBatch;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final Object lock = new Object();
+    private Map<Key, PendingRun> pending = new LinkedHashMap<>();
+    // Old course name -> new name, so runs queued or re-queued under a renamed course follow it
+    private final Map<String, String> renames = new java.util.HashMap<>();
+    private volatile int depth = 0;
+
+    public RunWriteQueue(Writer writer, Logger logger, long intervalMs, int maxBatch) {
+        this.writer = writer;
+        this.logger = logger;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.executor = java.util.concurrent.Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Parkour-RunWrite");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = Math.max(50L, intervalMs);
+        this.executor.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue a finished run; {@code nanos < 0} records a counter-only increment (no time, no stats).
+     */
+    public void add(String course, UUID player, long nanos) {
+        if (course == null || player == null) return;
+        boolean full;
+        synchronized (lock) {
+            String name = resolve(course);
+            PendingRun run = pending.computeIfAbsent(new Key(name, player), k -> new PendingRun(name, player));
+            run.runs++;
+            if (nanos >= 0) {
+                run.timedRuns++;
+                run.bestNanos = Math.min(run.bestNanos, nanos);
+            }
+            depth = pending.size();
+            full = depth >= maxBatch;
+        }
+        if (full && flushRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::flushSafely);
+            } catch (java.util.concurrent.RejectedExecutionException ignored) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * Moves runs queued under {@code from} to {@code to}, and redirects later ones. Call once the renamed
+     * course's row exists, before the old row is removed.
+     */
+    public void rename(String from, String to) {
+        if (from == null || to == null || from.equals(to)) return;
+        synchronized (lock) {
+            renames.remove(to);
+            renames.put(from, to);
+            Map<Key, PendingRun> moved = new LinkedHashMap<>();
+            for (PendingRun run : pending.values()) {
+                enqueue(moved, run.course.equals(from) ? run.renamed(to) : run);
+            }
+            pending = moved;
+            depth = pending.size();
+        }
+    }
+
+    /**
+     * Writes everything queued so far, waiting up to {@code timeoutMs}; a flush already running finishes first.
+     * Must not be called on the writer thread, nor while holding the writer connection.
+     *
+     * @return false if the flush did not finish in time (or the queue is shutting down)
+     */
+    public boolean flushAndWait(long timeoutMs) {
+        try {
+            executor.submit(this::flushSafely).get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ignored) {
+            // Rejected (shutting down) or timed out: shutdown() writes the rest
+        }
+        return false;
+    }
+
+    /**
+     * Number of (course, player) pairs waiting to be written.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Flushes what is queued and stops the writer thread, waiting up to {@code timeoutMs}.
+     * Anything still pending afterwards is written on the calling thread.
+     */
+    public void shutdown(long timeoutMs) {
+        try {
+            executor.execute(this::flushSafely);
+        } catch (java.util.concurrent.RejectedExecutionException ignored) {}
+        executor.shutdown();
+        try {
+            executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+        if (depth > 0) {
+            flushSafely();
+        }
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        List<PendingRun> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) return;
+            batch = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>();
+            depth = 0;
+        }
+        try {
+            writer.write(batch);
+        } catch (Throwable t) {
+            // Put the batch back (merging with anything queued meanwhile) so the next flush retries it
+            List<PendingRun> dropped = new ArrayList<>();
+            synchronized (lock) {
+                for (PendingRun run : batch) {
+                    if (++run.attempts >= MAX_ATTEMPTS) {
+                        dropped.add(run);
+                        continue;
+                    }
+                    String name = resolve(run.course);
+                    enqueue(pending, name.equals(run.course) ? run : run.renamed(name));
+                }
+                depth = pending.size();
+            }
+            try {
+                if (dropped.size() < batch.size()) {
+                    logger.warning("Failed to persist " + batch.size() + " queued run(s), will retry: " + t.getMessage());
+                }
+                if (!dropped.isEmpty()) {
+                    logger.severe("Dropping " + dropped.size() + " queued run(s) after " + MAX_ATTEMPTS + " failed attempts: " + dropped);
+                }
+            } catch (Throwable ignored) {}
+        }
+    }
+
+    private static void enqueue(Map<Key, PendingRun> into, PendingRun run) {
+        PendingRun cur = into.get(new Key(run.course, run.player));
+        if (cur == null) {
+            into.put(new Key(run.course, run.player), run);
+        } else {
+            cur.mergeFrom(run);
+        }
+    }
+
+    // Caller holds lock
+    private String resolve(String course) {
+        String name = course;
+        for (int i = 0; i < 16; i++) {
+            String next = renames.get(name);
+            if (next == null) break;
+            name = next;
+        }
+        return name;
+    }
+}
@@ -14,81 +14,129 @@ import java.util.function.BiConsumer;
 public class SqliteParkourStorage {
     private final ParkourPlugin plugin;
     private final DatabaseManager db;
-    private final java.util.concurrent.ExecutorService runWriteExecutor;
+    private final RunWriteQueue runWriteQueue;
+    private final CourseWriteQueue courseWriteQueue;
     private final java.util.concurrent.ConcurrentHashMap<UUID, int[]> statsCache = new java.util.concurrent.ConcurrentHashMap<>();
     private final java.util.concurrent.atomic.AtomicLong globalTotalRuns = new java.util.concurrent.atomic.AtomicLong(0);
+    // parkours.id by course name, so writes do not look the id up by name every time
+    private final java.util.concurrent.ConcurrentHashMap<String, Integer> courseIds = new java.util.concurrent.ConcurrentHashMap<>();
     private volatile org.bukkit.scheduler.BukkitTask totalRunsRefreshTask;
 
     public SqliteParkourStorage(ParkourPlugin plugin, DatabaseManager db) {
         this.plugin = plugin;
         this.db = db;
-        this.runWriteExecutor = java.util.concurrent.Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "Parkour-RunWrite");
-            t.setDaemon(true);
-            return t;
-        });
+        long flushInterval = 2000L;
+        int maxBatch = 200;
+        try {
+            flushInterval = plugin.getConfigManager().runWriteFlushIntervalMs();
+            maxBatch = plugin.getConfigManager().runWriteMaxBatch();
+        } catch (Throwable ignored) {}
+        this.runWriteQueue = new RunWriteQueue(this::writeRunBatch, plugin.getLogger(), flushInterval, maxBatch);
+        this.courseWriteQueue = new CourseWriteQueue(plugin, this::captureChanges, this::isRegistered, this::writeCourseChanges);
     }
 
     public void shutdown() {
-        try {
-            runWriteExecutor.shutdown();
-            // Wait briefly for queued increments to flush
-            runWriteExecutor.awaitTermination(5, java.util.concurrent.TimeUnit.SECONDS);
-        } catch (InterruptedException ignored) {
-            Thread.currentThread().interrupt();
-        } catch (Throwable ignored) {}
+        // Flush queued course changes and completions before the plugin goes away
+        try { courseWriteQueue.shutdown(5000L); } catch (Throwable ignored) {}
+        try { runWriteQueue.shutdown(5000L); } catch (Throwable ignored) {}
         try { if (totalRunsRefreshTask != null) totalRunsRefreshTask.cancel(); } catch (Throwable ignored) {}
+        try { db.close(); } catch (Throwable ignored) {}
+    }
+
+    public DatabaseManager getDatabase() {
+        return db;
+    }
+
+    /**
+     * Number of (course, player) pairs with completions not yet written to SQLite.
+     */
+    public int getPendingRunWrites() {
+        return runWriteQueue.getDepth();
     }
 
     /* =========================================================
      *                        LOAD
      * ========================================================= */
     public List<ParkourCourse> loadCourses() {
-        List<ParkourCourse> list = new ArrayList<>();
-        String sql = "SELECT * FROM parkours";
-        try (Connection conn = db.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
-
-            int loaded = 0;
-            int skipped = 0;
+        return loadCoursesBulk(Bukkit::getWorld);
+    }
 
-            while (rs.next()) {
-                String name = rs.getString("name");
-                String worldName = rs.getString("world");
-                World world = worldName != null ? Bukkit.getWorld(worldName) : null;
-
-                if (world == null) {
-                    plugin.getLogger().warning("Skipping parkour '" + name + "': world '" + worldName + "' not loaded.");
-                    skipped++;
-                    continue;
-                }
+    /**
+     * Reads every course off the main thread and hands them to {@code publish} on the main thread,
+     * at most {@code perTick} per tick; {@code done} receives the number published.
+     */
+    public void loadCoursesAsync(int perTick, java.util.function.Consumer<ParkourCourse> publish, java.util.function.IntConsumer done) {
+        // World lookups are snapshotted here so the loader thread never touches the world list
+        Map<String, World> worlds = new HashMap<>();
+        for (World w : Bukkit.getWorlds()) worlds.put(w.getName(), w);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            long started = System.nanoTime();
+            List<ParkourCourse> loaded = loadCoursesBulk(worlds::get);
+            plugin.getLogger().info("Read " + loaded.size() + " parkour course(s) from SQLite in " + ((System.nanoTime() - started) / 1_000_000L) + " ms.");
+            Bukkit.getScheduler().runTask(plugin, () -> publishInChunks(loaded, Math.max(1, perTick), publish, done));
+        });
+    }
 
+    private void publishInChunks(List<ParkourCourse> courses, int perTick, java.util.function.Consumer<ParkourCourse> publish, java.util.function.IntConsumer done) {
+        Iterator<ParkourCourse> it = courses.iterator();
+        int[] published = {0};
+        Bukkit.getScheduler().runTaskTimer(plugin, task -> {
+            for (int i = 0; i < perTick && it.hasNext(); i++) {
                 try {
-                    ParkourCourse c = new ParkourCourse(name);
+                    publish.accept(it.next());
+                    published[0]++;
+                } catch (Throwable t) {
+                    plugin.getLogger().warning("Failed to register parkour: " + t.getMessage());
+                }
+            }
+            if (!it.hasNext()) {
+                task.cancel();
+                done.accept(published[0]);
+            }
+        }, 0L, 1L);
+    }
 
-                    ResultSetMetaData md = rs.getMetaData();
-                    Set<String> cols = new HashSet<>();
-                    for (int ci = 1; ci <= md.getColumnCount(); ci++) {
-                        cols.add(md.getColumnName(ci).toLowerCase());
+    /**
+     * One scan per table, joined in memory by parkour id. Only the resident part of each course is read
+     * (geometry, creators, checkpoints, rating aggregates, total runs); times, per-player ratings and
+     * per-player run counts are paged in later through {@link #loadCourseDetailsAsync}.
+     */
+    private List<ParkourCourse> loadCoursesBulk(java.util.function.Function<String, World> worlds) {
+        Map<Integer, ParkourCourse> byId = new LinkedHashMap<>();
+        Map<Integer, World> worldById = new HashMap<>();
+        try (Connection conn = db.getReadConnection()) {
+            int skipped = 0;
+            try (PreparedStatement ps = conn.prepareStatement("SELECT * FROM parkours ORDER BY id");
+                 ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String name = rs.getString("name");
+                    String worldName = rs.getString("world");
+                    World world = worldName != null ? worlds.apply(worldName) : null;
+
+                    if (world == null) {
+                        plugin.getLogger().warning("Skipping parkour '" + name + "': world '" + worldName + "' not loaded.");
+                        skipped++;
+                        continue;
                     }
 
-                    // Teleports
-                    c.setStartTeleport(readLocation(world, rs, "start_"));
-                    c.setFinishTeleport(readLocation(world, rs, "finish_"));
+                    try {
+                        ParkourCourse c = new ParkourCourse(name);
+
+                        // Teleports
+                        c.setStartTeleport(readLocation(world, rs, "start_"));
+                        c.setFinishTeleport(readLocation(world, rs, "finish_"));
 
-                    // Plates
-                    c.setStartPlate(readBlockLocation(world, rs, "start_plate_"));
-                    c.setFinishPlate(readBlockLocation(world, rs, "finish_plate_"));
+                        // Plates
+                        c.setStartPlate(readBlockLocation(world, rs, "start_plate_"));
+                        c.setFinishPlate(readBlockLocation(world, rs, "finish_plate_"));
 
-                    // Difficulty / Published (nullable + guarded)
-                    Integer diffObj = getNullableInteger(rs, "difficulty");
-                    if (diffObj != null) c.setStaffDifficulty(diffObj);
-                    Integer publishedObj = getNullableInteger(rs, "published");
-                    c.setPublished(publishedObj != null && publishedObj == 1);
+                        // Difficulty / Published (nullable + guarded)
+                        Integer diffObj = getNullableInteger(rs, "difficulty");
+                        if (diffObj != null) c.setStaffDifficulty(diffObj);
+                        Integer publishedObj = getNullableInteger(rs, "published");
+                        c.setPublished(publishedObj != null && publishedObj == 1);
 
-                    // Plot region (optional columns)
-                    if (cols.contains("plot_min_x") && cols.contains("plot_min_z") && cols.contains("plot_size")) {
+                        // Plot region (player parkours only)
                         Integer minX = getNullableInteger(rs, "plot_min_x");
                         Integer minZ = getNullableInteger(rs, "plot_min_z");
                         Integer size = getNullableInteger(rs, "plot_size");
@@ -96,37 +144,89 @@ public class SqliteParkourStorage {
                             // PlotRegion stores the world name (String) — pass world.getName()
                             c.setPlotRegion(new com.pikaronga.parkour.player.PlotRegion(world.getName(), minX, minZ, size));
                         }
-                    }
 
-                    // Holograms (optional columns)
-                    readHolo(rs, world, cols, c, "top_", c::setTopHologramLocation);
-                    readHolo(rs, world, cols, c, "best_", c::setBestHologramLocation);
-                    readHolo(rs, world, cols, c, "creator_", c::setCreatorHologramLocation);
-
-                    // Creators, checkpoints, times
-                    int id = rs.getInt("id");
-                    try { c.setCreatedOrder(id); } catch (Throwable ignored) {}
-                    loadCreators(conn, id, c);
-                    loadCheckpoints(conn, id, world, c);
-                    loadTimes(conn, id, c);
-                    // Ratings
-                    loadRatings(conn, id, c);
-                    // Load run counters (per-player + total)
-                    try { loadRunCounts(c); } catch (SQLException e) { plugin.getLogger().warning("Failed to load run counts for '" + name + "': " + e.getMessage()); }
-
-                    list.add(c);
-                    loaded++;
-                    plugin.getLogger().info("Loaded parkour '" + name + "' in world '" + worldName + "'.");
-                } catch (Exception rowEx) {
-                    plugin.getLogger().warning("Skipping parkour '" + name + "' due to invalid data: " + rowEx.getMessage());
+                        // Holograms
+                        readHolo(rs, world, c, "top_", c::setTopHologramLocation);
+                        readHolo(rs, world, c, "best_", c::setBestHologramLocation);
+                        readHolo(rs, world, c, "creator_", c::setCreatorHologramLocation);
+
+                        // Rating aggregates (schema v3 columns, kept in step with the ratings table)
+                        c.setRatingAggregates(rs.getInt("look_sum"), rs.getInt("look_count"),
+                                rs.getInt("difficulty_sum"), rs.getInt("difficulty_count"));
+
+                        int id = rs.getInt("id");
+                        try { c.setCreatedOrder(id); } catch (Throwable ignored) {}
+                        c.unloadDetails();
+                        courseIds.put(name, id);
+                        byId.put(id, c);
+                        worldById.put(id, world);
+                    } catch (Exception rowEx) {
+                        plugin.getLogger().warning("Skipping parkour '" + name + "' due to invalid data: " + rowEx.getMessage());
+                    }
                 }
             }
 
-            plugin.getLogger().info("Course loading summary: " + loaded + " loaded, " + skipped + " skipped.");
+            if (!byId.isEmpty()) {
+                loadAllCreators(conn, byId);
+                loadAllCheckpoints(conn, byId, worldById);
+                try { loadAllRunTotals(conn, byId); } catch (SQLException e) { plugin.getLogger().warning("Failed to load run counts: " + e.getMessage()); }
+            }
+
+            // Everything just read matches the database
+            for (ParkourCourse c : byId.values()) c.clearUnsavedChanges();
+            plugin.getLogger().info("Course loading summary: " + byId.size() + " loaded, " + skipped + " skipped.");
         } catch (SQLException e) {
             plugin.getLogger().severe("Failed to load parkours from DB: " + e.getMessage());
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    private void loadAllCreators(Connection conn, Map<Integer, ParkourCourse> byId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT parkour_id, uuid FROM creators ORDER BY parkour_id");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                ParkourCourse c = byId.get(rs.getInt(1));
+                if (c == null) continue;
+                UUID u = UuidBytes.fromBytes(rs.getBytes(2));
+                if (u != null) c.addCreator(u);
+            }
+        }
+    }
+
+    private void loadAllCheckpoints(Connection conn, Map<Integer, ParkourCourse> byId, Map<Integer, World> worldById) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT * FROM checkpoints ORDER BY parkour_id, ord");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                int id = rs.getInt("parkour_id");
+                ParkourCourse c = byId.get(id);
+                if (c == null) continue;
+                World world = worldById.get(id);
+                Double px = getNullableDouble(rs, "plate_x");
+                Double py = getNullableDouble(rs, "plate_y");
+                Double pz = getNullableDouble(rs, "plate_z");
+                Double rx = getNullableDouble(rs, "respawn_x");
+                Double ry = getNullableDouble(rs, "respawn_y");
+                Double rz = getNullableDouble(rs, "respawn_z");
+                Double ryaw = getNullableDouble(rs, "respawn_yaw");
+                Double rpitch = getNullableDouble(rs, "respawn_pitch");
+                if (px == null || py == null || pz == null || rx == null || ry == null || rz == null) continue;
+                float yaw = ryaw == null ? 0f : ryaw.floatValue();
+                float pitch = rpitch == null ? 0f : rpitch.floatValue();
+                c.addCheckpoint(new Checkpoint(new Location(world, px, py, pz),
+                        new Location(world, rx, ry, rz, yaw, pitch)));
+            }
+        }
+    }
+
+    private void loadAllRunTotals(Connection conn, Map<Integer, ParkourCourse> byId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT parkour_id, total_runs FROM parkour_run_totals");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                ParkourCourse c = byId.get(rs.getInt(1));
+                if (c != null) c.setTotalRunCount(Math.max(0, rs.getInt(2)));
+            }
         }
-        return list;
     }
 
     /* =========================================================
@@ -134,10 +234,12 @@ public class SqliteParkourStorage {
      * ========================================================= */
     public void loadRunCounts(ParkourCourse course) throws SQLException {
         if (course == null) return;
-        try (java.sql.Connection conn = db.getConnection()) {
+        try (java.sql.Connection conn = db.getReadConnection()) {
+            Integer id = getCourseId(conn, course.getName());
+            if (id == null) return;
             // Total runs
-            try (java.sql.PreparedStatement ps = conn.prepareStatement("SELECT total_runs FROM parkour_run_totals WHERE course=?")) {
-                ps.setString(1, course.getName());
+            try (java.sql.PreparedStatement ps = conn.prepareStatement("SELECT total_runs FROM parkour_run_totals WHERE parkour_id=?")) {
+                ps.setInt(1, id);
                 try (java.sql.ResultSet rs = ps.executeQuery()) {
                     if (rs.next()) {
                         course.setTotalRunCount(Math.max(0, rs.getInt(1)));
@@ -147,15 +249,12 @@ public class SqliteParkourStorage {
                 }
             }
             // Per-player runs
-            try (java.sql.PreparedStatement ps = conn.prepareStatement("SELECT player, runs FROM parkour_runs WHERE course=?")) {
-                ps.setString(1, course.getName());
+            try (java.sql.PreparedStatement ps = conn.prepareStatement("SELECT player, runs FROM parkour_runs WHERE parkour_id=?")) {
+                ps.setInt(1, id);
                 try (java.sql.ResultSet rs = ps.executeQuery()) {
                     while (rs.next()) {
-                        try {
-                            java.util.UUID u = java.util.UUID.fromString(rs.getString(1));
-                            int runs = Math.max(0, rs.getInt(2));
-                            course.setPlayerRunCount(u, runs);
-                        } catch (IllegalArgumentException ignored) {}
+                        java.util.UUID u = UuidBytes.fromBytes(rs.getBytes(1));
+                        if (u != null) course.setPlayerRunCount(u, Math.max(0, rs.getInt(2)));
                     }
                 }
             }
@@ -164,78 +263,15 @@ public class SqliteParkourStorage {
 
     public void queueRunIncrement(String courseName, java.util.UUID playerId) {
         if (courseName == null || playerId == null) return;
-        runWriteExecutor.submit(() -> saveRunIncrement(courseName, playerId));
-    }
-
-    private void saveRunIncrement(String courseName, java.util.UUID playerId) {
-        try (java.sql.Connection conn = db.getConnection()) {
-            conn.setAutoCommit(false);
-            // Per-player upsert
-            try (java.sql.PreparedStatement ps = conn.prepareStatement(
-                    "INSERT INTO parkour_runs(course, player, runs) VALUES(?,?,1) " +
-                            "ON CONFLICT(course, player) DO UPDATE SET runs = runs + 1")) {
-                ps.setString(1, courseName);
-                ps.setString(2, playerId.toString());
-                ps.executeUpdate();
-            }
-            // Total upsert
-            try (java.sql.PreparedStatement ps = conn.prepareStatement(
-                    "INSERT INTO parkour_run_totals(course, total_runs) VALUES(?,1) " +
-                            "ON CONFLICT(course) DO UPDATE SET total_runs = total_runs + 1")) {
-                ps.setString(1, courseName);
-                ps.executeUpdate();
-            }
-            conn.commit();
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Failed to persist run increment for '" + courseName + "': " + e.getMessage());
-        }
+        runWriteQueue.add(courseName, playerId, -1L);
     }
 
-    private void readHolo(ResultSet rs, World world, Set<String> cols, ParkourCourse c, String prefix,
+    private void readHolo(ResultSet rs, World world, ParkourCourse c, String prefix,
                           java.util.function.Consumer<Location> setter) throws SQLException {
-        if (cols.contains(prefix + "holo_x")) {
-            Double x = getNullableDouble(rs, prefix + "holo_x");
-            Double y = getNullableDouble(rs, prefix + "holo_y");
-            Double z = getNullableDouble(rs, prefix + "holo_z");
-            if (x != null && y != null && z != null) setter.accept(new Location(world, x, y, z));
-        }
-    }
-
-    private void loadCreators(Connection conn, int parkourId, ParkourCourse c) throws SQLException {
-        try (PreparedStatement ps = conn.prepareStatement("SELECT uuid FROM creators WHERE parkour_id=?")) {
-            ps.setInt(1, parkourId);
-            try (ResultSet crs = ps.executeQuery()) {
-                while (crs.next()) {
-                    try {
-                        c.addCreator(UUID.fromString(crs.getString(1)));
-                    } catch (IllegalArgumentException ignored) {}
-                }
-            }
-        }
-    }
-
-    private void loadCheckpoints(Connection conn, int parkourId, World world, ParkourCourse c) throws SQLException {
-        try (PreparedStatement ps = conn.prepareStatement(
-                "SELECT * FROM checkpoints WHERE parkour_id=? ORDER BY ord ASC")) {
-            ps.setInt(1, parkourId);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    Double px = getNullableDouble(rs, "plate_x");
-                    Double py = getNullableDouble(rs, "plate_y");
-                    Double pz = getNullableDouble(rs, "plate_z");
-                    Double rx = getNullableDouble(rs, "respawn_x");
-                    Double ry = getNullableDouble(rs, "respawn_y");
-                    Double rz = getNullableDouble(rs, "respawn_z");
-                    Double ryaw = getNullableDouble(rs, "respawn_yaw");
-                    Double rpitch = getNullableDouble(rs, "respawn_pitch");
-                    if (px == null || py == null || pz == null || rx == null || ry == null || rz == null) continue;
-                    float yaw = ryaw == null ? 0f : ryaw.floatValue();
-                    float pitch = rpitch == null ? 0f : rpitch.floatValue();
-                    c.addCheckpoint(new Checkpoint(new Location(world, px, py, pz),
-                            new Location(world, rx, ry, rz, yaw, pitch)));
-                }
-            }
-        }
+        Double x = getNullableDouble(rs, prefix + "holo_x");
+        Double y = getNullableDouble(rs, prefix + "holo_y");
+        Double z = getNullableDouble(rs, prefix + "holo_z");
+        if (x != null && y != null && z != null) setter.accept(new Location(world, x, y, z));
     }
 
     public void loadTimes(Connection conn, int parkourId, ParkourCourse c) throws SQLException {
@@ -244,11 +280,8 @@ public class SqliteParkourStorage {
             ps.setInt(1, parkourId);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    try {
-                        UUID u = UUID.fromString(rs.getString(1));
-                        long best = rs.getLong(2);
-                        c.getTimes().put(u, new ArrayList<>(List.of(best)));
-                    } catch (IllegalArgumentException ignored) {}
+                    UUID u = UuidBytes.fromBytes(rs.getBytes(1));
+                    if (u != null) c.setBestTime(u, rs.getLong(2));
                 }
             }
         }
@@ -305,103 +338,198 @@ public class SqliteParkourStorage {
     /* =========================================================
      *                        SAVE
      * ========================================================= */
-    public void saveCourses(Map<String, ParkourCourse> courses) {
-        try (Connection conn = db.getConnection()) {
+    /**
+     * Queues the course for an incremental write of its changed parts (wired as the course change listener). Main thread.
+     */
+    public void courseChanged(ParkourCourse course) {
+        courseWriteQueue.courseChanged(course);
+    }
+
+    /**
+     * Captures every pending course change now, so writes issued afterwards (counters, times, deletes) see the rows.
+     */
+    public void flushCourseChanges() {
+        courseWriteQueue.flush();
+    }
+
+    /**
+     * Writes what is still queued and stops the course writer; call on disable before the final best-time flush.
+     */
+    public void drainCourseWrites() {
+        courseWriteQueue.shutdown(5000L);
+    }
+
+    /**
+     * True while changes captured from the course are not yet written; its details must stay loaded meanwhile.
+     */
+    public boolean hasUnconfirmedWrites(ParkourCourse course) {
+        return courseWriteQueue.isUnconfirmed(course);
+    }
+
+    /**
+     * True if the one-off maintenance task (see {@code DatabaseManager.TASK_*}) has not been carried out yet.
+     */
+    public boolean isMaintenancePending(String task) {
+        try (Connection conn = db.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT 1 FROM maintenance_tasks WHERE name=? AND done_at IS NULL")) {
+            ps.setString(1, task);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Failed to read maintenance task '" + task + "': " + e.getMessage());
+            return false;
+        }
+    }
+
+    public void completeMaintenance(String task) {
+        courseWriteQueue.submit(() -> {
+            try (Connection conn = db.getConnection();
+                 PreparedStatement ps = conn.prepareStatement("UPDATE maintenance_tasks SET done_at=strftime('%s','now') WHERE name=?")) {
+                ps.setString(1, task);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                plugin.getLogger().warning("Failed to record maintenance task '" + task + "': " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Number of captured course changes not yet written to SQLite.
+     */
+    public int getPendingCourseWrites() {
+        return courseWriteQueue.getDepth();
+    }
+
+    private CourseDelta captureChanges(ParkourCourse c) {
+        return CourseDelta.capture(c, resolveWorld(c));
+    }
+
+    private boolean isRegistered(ParkourCourse c) {
+        return plugin.getParkourManager() != null && plugin.getParkourManager().getCourse(c.getName()) == c;
+    }
+
+    /**
+     * Writes the changed parts of each course in one transaction: the row when its fields changed, creators and
+     * checkpoints rewritten only when they changed, and ratings upserted per changed player. Writer thread.
+     */
+    private void writeCourseChanges(List<CourseDelta> batch) throws SQLException {
+        long started = System.nanoTime();
+        try (Connection conn = db.getWriteConnection()) {
             conn.setAutoCommit(false);
-            for (ParkourCourse c : courses.values()) {
-                int id = upsertCourse(conn, c);
-                saveExtras(conn, id, c);
-
-                // Creators (rewrite)
-                try (PreparedStatement del = conn.prepareStatement("DELETE FROM creators WHERE parkour_id=?")) {
-                    del.setInt(1, id);
-                    del.executeUpdate();
-                }
-                try (PreparedStatement ins = conn.prepareStatement(
-                        "INSERT INTO creators(parkour_id, uuid) VALUES(?,?)")) {
-                    for (UUID u : c.getCreators()) {
-                        ins.setInt(1, id);
-                        ins.setString(2, u.toString());
-                        ins.addBatch();
+            try {
+                for (CourseDelta d : batch) {
+                    Integer id = getCourseId(conn, d.name());
+                    if (d.has(ParkourCourse.CHANGED_ROW)) {
+                        id = upsertCourse(conn, d, id);
+                        saveExtras(conn, id, d);
                     }
-                    ins.executeBatch();
-                }
-
-                // Checkpoints (rewrite)
-                try (PreparedStatement delc = conn.prepareStatement("DELETE FROM checkpoints WHERE parkour_id=?")) {
-                    delc.setInt(1, id);
-                    delc.executeUpdate();
-                }
-                try (PreparedStatement insc = conn.prepareStatement(
-                        "INSERT INTO checkpoints(parkour_id, ord, plate_x, plate_y, plate_z, respawn_x, respawn_y, respawn_z, respawn_yaw, respawn_pitch) VALUES(?,?,?,?,?,?,?,?,?,?)")) {
-                    int ord = 0;
-                    for (Checkpoint cp : c.getCheckpoints()) {
-                        Location plate = cp.plateLocation();
-                        Location resp = cp.respawnLocation();
-                        insc.setInt(1, id);
-                        insc.setInt(2, ord++);
-                        insc.setDouble(3, plate.getX());
-                        insc.setDouble(4, plate.getY());
-                        insc.setDouble(5, plate.getZ());
-                        insc.setDouble(6, resp.getX());
-                        insc.setDouble(7, resp.getY());
-                        insc.setDouble(8, resp.getZ());
-                        insc.setDouble(9, resp.getYaw());
-                        insc.setDouble(10, resp.getPitch());
-                        insc.addBatch();
+                    // A course whose row was never written has nothing to attach the other parts to yet
+                    if (id == null) continue;
+                    if (d.has(ParkourCourse.CHANGED_CREATORS)) writeCreators(conn, id, d);
+                    if (d.has(ParkourCourse.CHANGED_CHECKPOINTS)) writeCheckpoints(conn, id, d);
+                    if (d.has(ParkourCourse.CHANGED_RATINGS)) {
+                        try (PreparedStatement delr = conn.prepareStatement("DELETE FROM ratings WHERE parkour_id=?")) {
+                            delr.setInt(1, id);
+                            delr.executeUpdate();
+                        }
+                    }
+                    if (d.hasRatings()) {
+                        writeRatings(conn, id, d);
+                        writeRatingAggregates(conn, id, d);
                     }
-                    insc.executeBatch();
                 }
+                conn.commit();
+            } catch (SQLException e) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+                // Ids handed out by the rolled-back inserts are gone again
+                for (CourseDelta d : batch) if (d.has(ParkourCourse.CHANGED_ROW)) courseIds.remove(d.name());
+                throw e;
+            }
+        }
+        try {
+            if (plugin.getConfigManager().debugEnabled()) {
+                plugin.getLogger().info("Wrote changes to " + batch.size() + " course(s) in " + ((System.nanoTime() - started) / 1_000_000L) + " ms.");
+            }
+        } catch (Throwable ignored) {}
+    }
 
-                // Ratings (rewrite; merge keys from both maps)
-                try (PreparedStatement delr = conn.prepareStatement("DELETE FROM ratings WHERE parkour_id=?")) {
-                    delr.setInt(1, id);
-                    delr.executeUpdate();
-                } catch (SQLException ignored) {}
-                try (PreparedStatement insr = conn.prepareStatement(
-                        "INSERT INTO ratings(parkour_id, uuid, look, difficulty) VALUES(?,?,?,?)")) {
-                    java.util.Set<java.util.UUID> uuids = new java.util.HashSet<>();
-                    uuids.addAll(c.getLookRatings().keySet());
-                    uuids.addAll(c.getDifficultyRatings().keySet());
-                    for (java.util.UUID u : uuids) {
-                        Integer look = c.getLookRatings().get(u);
-                        Integer diff = c.getDifficultyRatings().get(u);
-                        insr.setInt(1, id);
-                        insr.setString(2, u.toString());
-                        if (look != null) insr.setInt(3, look); else insr.setNull(3, java.sql.Types.INTEGER);
-                        if (diff != null) insr.setInt(4, diff); else insr.setNull(4, java.sql.Types.INTEGER);
-                        insr.addBatch();
-                    }
-                    insr.executeBatch();
-                } catch (SQLException ignored) {}
+    private void writeCreators(Connection conn, int id, CourseDelta d) throws SQLException {
+        try (PreparedStatement del = conn.prepareStatement("DELETE FROM creators WHERE parkour_id=?")) {
+            del.setInt(1, id);
+            del.executeUpdate();
+        }
+        try (PreparedStatement ins = conn.prepareStatement(
+                "INSERT INTO creators(parkour_id, uuid) VALUES(?,?)")) {
+            for (UUID u : d.creators()) {
+                ins.setInt(1, id);
+                ins.setBytes(2, UuidBytes.toBytes(u));
+                ins.addBatch();
             }
-            conn.commit();
-        } catch (SQLException e) {
-            plugin.getLogger().severe("Failed to save parkours to DB: " + e.getMessage());
+            ins.executeBatch();
         }
     }
 
-    private void loadRatings(Connection conn, int parkourId, ParkourCourse c) {
-        try (PreparedStatement ps = conn.prepareStatement("SELECT uuid, look, difficulty FROM ratings WHERE parkour_id=?")) {
-            ps.setInt(1, parkourId);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    try {
-                        java.util.UUID u = java.util.UUID.fromString(rs.getString(1));
-                        int look = rs.getInt(2);
-                        if (!rs.wasNull()) c.setLookRating(u, look);
-                        int diff = rs.getInt(3);
-                        if (!rs.wasNull()) c.setDifficultyRating(u, diff);
-                    } catch (IllegalArgumentException ignored) {}
-                }
+    private void writeCheckpoints(Connection conn, int id, CourseDelta d) throws SQLException {
+        try (PreparedStatement delc = conn.prepareStatement("DELETE FROM checkpoints WHERE parkour_id=?")) {
+            delc.setInt(1, id);
+            delc.executeUpdate();
+        }
+        try (PreparedStatement insc = conn.prepareStatement(
+                "INSERT INTO checkpoints(parkour_id, ord, plate_x, plate_y, plate_z, respawn_x, respawn_y, respawn_z, respawn_yaw, respawn_pitch) VALUES(?,?,?,?,?,?,?,?,?,?)")) {
+            int ord = 0;
+            for (Checkpoint cp : d.checkpoints()) {
+                Location plate = cp.plateLocation();
+                Location resp = cp.respawnLocation();
+                insc.setInt(1, id);
+                insc.setInt(2, ord++);
+                insc.setDouble(3, plate.getX());
+                insc.setDouble(4, plate.getY());
+                insc.setDouble(5, plate.getZ());
+                insc.setDouble(6, resp.getX());
+                insc.setDouble(7, resp.getY());
+                insc.setDouble(8, resp.getZ());
+                insc.setDouble(9, resp.getYaw());
+                insc.setDouble(10, resp.getPitch());
+                insc.addBatch();
             }
-        } catch (SQLException e) {
-            // Older schema may not have ratings; do not fail load
+            insc.executeBatch();
         }
     }
 
-    private int upsertCourse(Connection conn, ParkourCourse c) throws SQLException {
-        Integer id = getCourseId(conn, c.getName());
+    private void writeRatings(Connection conn, int id, CourseDelta d) throws SQLException {
+        Set<UUID> players = new HashSet<>(d.looks().keySet());
+        players.addAll(d.difficulties().keySet());
+        if (players.isEmpty()) return;
+        try (PreparedStatement up = conn.prepareStatement(
+                "INSERT INTO ratings(parkour_id, uuid, look, difficulty) VALUES(?,?,?,?) " +
+                "ON CONFLICT(parkour_id, uuid) DO UPDATE SET look = excluded.look, difficulty = excluded.difficulty")) {
+            for (UUID u : players) {
+                Integer look = d.looks().get(u);
+                Integer diff = d.difficulties().get(u);
+                up.setInt(1, id);
+                up.setBytes(2, UuidBytes.toBytes(u));
+                if (look != null) up.setInt(3, look); else up.setNull(3, java.sql.Types.INTEGER);
+                if (diff != null) up.setInt(4, diff); else up.setNull(4, java.sql.Types.INTEGER);
+                up.addBatch();
+            }
+            up.executeBatch();
+        }
+    }
+
+    private void writeRatingAggregates(Connection conn, int id, CourseDelta d) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "UPDATE parkours SET look_sum=?, look_count=?, difficulty_sum=?, difficulty_count=? WHERE id=?")) {
+            ps.setInt(1, d.lookSum());
+            ps.setInt(2, d.lookCount());
+            ps.setInt(3, d.difficultySum());
+            ps.setInt(4, d.difficultyCount());
+            ps.setInt(5, id);
+            ps.executeUpdate();
+        }
+    }
+
+    private int upsertCourse(Connection conn, CourseDelta c, Integer id) throws SQLException {
         if (id == null) {
             // 21 placeholders, keep order in bindCourse()
             try (PreparedStatement ps = conn.prepareStatement(
@@ -417,10 +545,13 @@ public class SqliteParkourStorage {
                 bindCourse(ps, c);
                 ps.executeUpdate();
                 try (ResultSet rs = ps.getGeneratedKeys()) {
-                    if (rs.next()) return rs.getInt(1);
+                    if (rs.next()) {
+                        courseIds.put(c.name(), rs.getInt(1));
+                        return rs.getInt(1);
+                    }
                 }
             }
-            return Objects.requireNonNull(getCourseId(conn, c.getName()));
+            return Objects.requireNonNull(getCourseId(conn, c.name()));
         } else {
             // 20 setters + WHERE id=?
             try (PreparedStatement ps = conn.prepareStatement(
@@ -440,7 +571,7 @@ public class SqliteParkourStorage {
         }
     }
 
-    private void bindCourse(PreparedStatement ps, ParkourCourse c) throws SQLException {
+    private void bindCourse(PreparedStatement ps, CourseDelta c) throws SQLException {
         // Explicit indices to guarantee correct binding order for INSERT with 21 placeholders
         // 1 name, 2 world,
         // 3-7 start_x,start_y,start_z,start_yaw,start_pitch
@@ -448,18 +579,18 @@ public class SqliteParkourStorage {
         // 11-15 finish_x,finish_y,finish_z,finish_yaw,finish_pitch
         // 16-18 finish_plate_x,finish_plate_y,finish_plate_z
         // 19 difficulty, 20 reward, 21 published
-        ps.setString(1, c.getName());                 // name
-        ps.setString(2, resolveWorld(c));             // world (STRING)
-        writeLocation(ps, 3, c.getStartTeleport());   // 3..7
-        writeBlock(ps, 8, c.getStartPlate());         // 8..10
-        writeLocation(ps, 11, c.getFinishTeleport()); // 11..15
-        writeBlock(ps, 16, c.getFinishPlate());       // 16..18
-        if (c.getStaffDifficulty() != null) ps.setInt(19, c.getStaffDifficulty()); else ps.setNull(19, Types.INTEGER); // difficulty
+        ps.setString(1, c.name());                    // name
+        ps.setString(2, c.world());                   // world (STRING)
+        writeLocation(ps, 3, c.startTeleport());      // 3..7
+        writeBlock(ps, 8, c.startPlate());            // 8..10
+        writeLocation(ps, 11, c.finishTeleport());    // 11..15
+        writeBlock(ps, 16, c.finishPlate());          // 16..18
+        if (c.staffDifficulty() != null) ps.setInt(19, c.staffDifficulty()); else ps.setNull(19, Types.INTEGER); // difficulty
         ps.setNull(20, Types.INTEGER);                 // reward (unknown in model -> NULL int)
-        ps.setInt(21, c.isPublished() ? 1 : 0);        // published
+        ps.setInt(21, c.published() ? 1 : 0);          // published
     }
 
-    private void bindCourseUpdate(PreparedStatement ps, ParkourCourse c) throws SQLException {
+    private void bindCourseUpdate(PreparedStatement ps, CourseDelta c) throws SQLException {
         // Explicit indices for UPDATE parameter order (20 setters)
         // 1 world,
         // 2-6 start_x,start_y,start_z,start_yaw,start_pitch
@@ -467,18 +598,17 @@ public class SqliteParkourStorage {
         // 10-14 finish_x,finish_y,finish_z,finish_yaw,finish_pitch
         // 15-17 finish_plate_x,finish_plate_y,finish_plate_z
         // 18 difficulty, 19 reward, 20 published
-        ps.setString(1, resolveWorld(c));             // world (STRING)
-        writeLocation(ps, 2, c.getStartTeleport());   // 2..6
-        writeBlock(ps, 7, c.getStartPlate());         // 7..9
-        writeLocation(ps, 10, c.getFinishTeleport()); // 10..14
-        writeBlock(ps, 15, c.getFinishPlate());       // 15..17
-        if (c.getStaffDifficulty() != null) ps.setInt(18, c.getStaffDifficulty()); else ps.setNull(18, Types.INTEGER); // difficulty
+        ps.setString(1, c.world());                   // world (STRING)
+        writeLocation(ps, 2, c.startTeleport());      // 2..6
+        writeBlock(ps, 7, c.startPlate());            // 7..9
+        writeLocation(ps, 10, c.finishTeleport());    // 10..14
+        writeBlock(ps, 15, c.finishPlate());          // 15..17
+        if (c.staffDifficulty() != null) ps.setInt(18, c.staffDifficulty()); else ps.setNull(18, Types.INTEGER); // difficulty
         ps.setNull(19, Types.INTEGER);                 // reward (unknown in model -> NULL int)
-        ps.setInt(20, c.isPublished() ? 1 : 0);        // published
+        ps.setInt(20, c.published() ? 1 : 0);          // published
     }
 
-    private void saveExtras(Connection conn, int id, ParkourCourse c) {
-        // Optional columns: ignore if schema doesn't have them
+    private void saveExtras(Connection conn, int id, CourseDelta c) throws SQLException {
         try (PreparedStatement ps = conn.prepareStatement(
                 "UPDATE parkours SET " +
                         "plot_min_x=?, plot_min_z=?, plot_size=?, " +
@@ -486,22 +616,20 @@ public class SqliteParkourStorage {
                         "best_holo_x=?, best_holo_y=?, best_holo_z=?, " +
                         "creator_holo_x=?, creator_holo_y=?, creator_holo_z=? " +
                         "WHERE id=?")) {
-            if (c.getPlotRegion() != null) {
-                ps.setInt(1, c.getPlotRegion().minX());
-                ps.setInt(2, c.getPlotRegion().minZ());
-                ps.setInt(3, c.getPlotRegion().size());
+            if (c.plot() != null) {
+                ps.setInt(1, c.plot().minX());
+                ps.setInt(2, c.plot().minZ());
+                ps.setInt(3, c.plot().size());
             } else {
                 ps.setNull(1, Types.INTEGER);
                 ps.setNull(2, Types.INTEGER);
                 ps.setNull(3, Types.INTEGER);
             }
-            writeBlock(ps, 4, c.getTopHologramLocation());
-            writeBlock(ps, 7, c.getBestHologramLocation());
-            writeBlock(ps, 10, c.getCreatorHologramLocation());
+            writeBlock(ps, 4, c.topHologram());
+            writeBlock(ps, 7, c.bestHologram());
+            writeBlock(ps, 10, c.creatorHologram());
             ps.setInt(13, id);
             ps.executeUpdate();
-        } catch (SQLException ignored) {
-            // If columns don't exist (older schema), just skip without failing the whole save.
         }
     }
 
@@ -534,11 +662,15 @@ public class SqliteParkourStorage {
     }
 
     private Integer getCourseId(Connection conn, String name) throws SQLException {
+        Integer cached = courseIds.get(name);
+        if (cached != null) return cached;
         try (PreparedStatement ps = conn.prepareStatement("SELECT id FROM parkours WHERE name=?")) {
             ps.setString(1, name);
             try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) return rs.getInt(1);
-                return null;
+                if (!rs.next()) return null;
+                int id = rs.getInt(1);
+                courseIds.put(name, id);
+                return id;
             }
         }
     }
@@ -546,14 +678,20 @@ public class SqliteParkourStorage {
     /* =========================================================
      *                  TIMES: ASYNC LOAD/SAVE
      * ========================================================= */
-    public void loadTimesForCourseAsync(String courseName, BiConsumer<ParkourCourse, Boolean> callback) {
+    /**
+     * Pages in a course's times, per-player ratings and per-player run counts, merged on the main thread.
+     */
+    public void loadCourseDetailsAsync(String courseName, BiConsumer<ParkourCourse, Boolean> callback) {
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             boolean ok = true;
             ParkourCourse course = plugin.getParkourManager().getCourse(courseName);
             if (course == null) ok = false;
 
-            Map<UUID, List<Long>> loaded = new HashMap<>();
-            try (Connection conn = db.getConnection()) {
+            Map<UUID, Long> times = new HashMap<>();
+            Map<UUID, Integer> looks = new HashMap<>();
+            Map<UUID, Integer> difficulties = new HashMap<>();
+            Map<UUID, Integer> runs = new HashMap<>();
+            try (Connection conn = db.getReadConnection()) {
                 Integer id = (course != null) ? getCourseId(conn, courseName) : null;
                 if (id == null || course == null) {
                     ok = false;
@@ -563,46 +701,84 @@ public class SqliteParkourStorage {
                         ps.setInt(1, id);
                         try (ResultSet rs = ps.executeQuery()) {
                             while (rs.next()) {
-                                try {
-                                    UUID u = UUID.fromString(rs.getString(1));
-                                    long best = rs.getLong(2);
-                                    loaded.put(u, List.of(best));
-                                } catch (IllegalArgumentException ignored) {}
+                                UUID u = UuidBytes.fromBytes(rs.getBytes(1));
+                                if (u != null) times.put(u, rs.getLong(2));
+                            }
+                        }
+                    }
+                    try (PreparedStatement ps = conn.prepareStatement("SELECT uuid, look, difficulty FROM ratings WHERE parkour_id=?")) {
+                        ps.setInt(1, id);
+                        try (ResultSet rs = ps.executeQuery()) {
+                            while (rs.next()) {
+                                UUID u = UuidBytes.fromBytes(rs.getBytes(1));
+                                if (u == null) continue;
+                                int look = rs.getInt(2);
+                                if (!rs.wasNull()) looks.put(u, Math.max(1, Math.min(5, look)));
+                                int diff = rs.getInt(3);
+                                if (!rs.wasNull()) difficulties.put(u, Math.max(1, Math.min(5, diff)));
+                            }
+                        }
+                    }
+                    try (PreparedStatement ps = conn.prepareStatement("SELECT player, runs FROM parkour_runs WHERE parkour_id=?")) {
+                        ps.setInt(1, id);
+                        try (ResultSet rs = ps.executeQuery()) {
+                            while (rs.next()) {
+                                UUID u = UuidBytes.fromBytes(rs.getBytes(1));
+                                if (u != null) runs.put(u, Math.max(0, rs.getInt(2)));
                             }
                         }
                     }
                 }
             } catch (SQLException e) {
                 ok = false;
-                plugin.getLogger().warning("Failed to load times: " + e.getMessage());
+                plugin.getLogger().warning("Failed to load course details: " + e.getMessage());
             }
 
             boolean success = ok;
             Bukkit.getScheduler().runTask(plugin, () -> {
-                if (course != null) {
+                if (course != null && success) {
                     // Merge loaded best times into in-memory cache without overwriting
                     // any already-present values (e.g., newly achieved bests not yet saved).
-                    for (Map.Entry<UUID, java.util.List<Long>> e : loaded.entrySet()) {
-                        UUID player = e.getKey();
-                        java.util.List<Long> cur = course.getTimes().computeIfAbsent(player, k -> new java.util.ArrayList<>());
-                        java.util.List<Long> fromDb = e.getValue();
-                        if (fromDb != null) {
-                            for (Long v : fromDb) {
-                                if (v != null) cur.add(v);
-                            }
-                        }
-                        // Keep list small and sorted (best first) for efficiency
-                        cur.sort(Long::compareTo);
-                        if (cur.size() > 3) {
-                            cur.subList(3, cur.size()).clear();
-                        }
+                    // addTime keeps each list sorted, trimmed to 3 and the leaderboard in sync.
+                    for (Map.Entry<UUID, Long> e : times.entrySet()) {
+                        course.addTime(e.getKey(), e.getValue());
                     }
+                    course.applyDetails(looks, difficulties, runs);
                 }
                 callback.accept(course, success);
             });
         });
     }
 
+    /**
+     * Upserts the given bests (course name -> player -> nanos) in a single transaction; never raises a stored best.
+     * Blocking; call off the main thread.
+     */
+    public void saveBestTimes(Map<String, Map<UUID, Long>> bests) throws SQLException {
+        try (Connection conn = db.getWriteConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement up = conn.prepareStatement(
+                    "INSERT INTO times(parkour_id, uuid, best_nanos, last_updated) VALUES(?,?,?, strftime('%s','now')) " +
+                    "ON CONFLICT(parkour_id, uuid) DO UPDATE SET best_nanos = MIN(times.best_nanos, excluded.best_nanos), last_updated = excluded.last_updated")) {
+                for (Map.Entry<String, Map<UUID, Long>> course : bests.entrySet()) {
+                    Integer id = getCourseId(conn, course.getKey());
+                    if (id == null) continue;
+                    for (Map.Entry<UUID, Long> e : course.getValue().entrySet()) {
+                        up.setInt(1, id);
+                        up.setBytes(2, UuidBytes.toBytes(e.getKey()));
+                        up.setLong(3, e.getValue());
+                        up.addBatch();
+                    }
+                }
+                up.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                try { conn.rollback(); } catch (SQLException ignored) {}
+                throw e;
+            }
+        }
+    }
+
     public void saveTimesAsync(ParkourCourse course) {
         // Snapshot on main thread, write async (safe upsert; never delete)
         Bukkit.getScheduler().runTask(plugin, () -> {
@@ -610,7 +786,8 @@ public class SqliteParkourStorage {
             for (Map.Entry<UUID, List<Long>> e : course.getTimes().entrySet()) {
                 snapshot.put(e.getKey(), new ArrayList<>(e.getValue()));
             }
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            // On the course writer, so a course row queued just before (a rename) already exists
+            courseWriteQueue.submit(() -> {
                 try (Connection conn = db.getConnection()) {
                     if (snapshot.isEmpty()) {
                         plugin.getLogger().fine("Skipped saving times for '" + course.getName() + "' due to empty cache.");
@@ -626,7 +803,7 @@ public class SqliteParkourStorage {
                                 long best = e.getValue().stream().min(Long::compareTo).orElse(Long.MAX_VALUE);
                                 if (best == Long.MAX_VALUE) continue;
                                 up.setInt(1, id);
-                                up.setString(2, e.getKey().toString());
+                                up.setBytes(2, UuidBytes.toBytes(e.getKey()));
                                 up.setLong(3, best);
                                 up.addBatch();
                             }
@@ -646,69 +823,91 @@ public class SqliteParkourStorage {
      * ========================================================= */
     public void recordRunAsync(ParkourCourse course, UUID playerId, long nanos) {
         if (course == null || playerId == null) return;
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            try (Connection conn = db.getConnection()) {
-                conn.setAutoCommit(false);
-                Integer courseId = getCourseId(conn, course.getName());
-                if (courseId == null) {
-                    conn.rollback();
-                    return;
-                }
-
-                boolean hadBefore = false;
-                try (PreparedStatement chk = conn.prepareStatement("SELECT 1 FROM times WHERE parkour_id=? AND uuid=? LIMIT 1")) {
-                    chk.setInt(1, courseId);
-                    chk.setString(2, playerId.toString());
-                    try (ResultSet rs = chk.executeQuery()) { hadBefore = rs.next(); }
-                }
-
-                // Upsert best time with MIN
-                try (PreparedStatement up = conn.prepareStatement(
-                        "INSERT INTO times(parkour_id, uuid, best_nanos, last_updated) VALUES(?,?,?,strftime('%s','now')) " +
-                                "ON CONFLICT(parkour_id, uuid) DO UPDATE SET best_nanos = MIN(times.best_nanos, excluded.best_nanos), last_updated = excluded.last_updated")) {
-                    up.setInt(1, courseId);
-                    up.setString(2, playerId.toString());
-                    up.setLong(3, nanos);
-                    up.executeUpdate();
-                }
-
-                // Global stats (total runs always +1, completed_courses +1 only on first completion for this course)
-                int completedInc = hadBefore ? 0 : 1;
-                try (PreparedStatement sup = conn.prepareStatement(
-                        "INSERT INTO parkour_stats(uuid, total_runs, completed_courses, last_run) VALUES(?,1,?,strftime('%s','now')) " +
-                                "ON CONFLICT(uuid) DO UPDATE SET total_runs = parkour_stats.total_runs + 1, completed_courses = parkour_stats.completed_courses + excluded.completed_courses, last_run = excluded.last_run")) {
-                    sup.setString(1, playerId.toString());
-                    sup.setInt(2, completedInc);
-                    sup.executeUpdate();
-                }
+        // Merged per (course, player) and written in batches by RunWriteQueue -> writeRunBatch
+        runWriteQueue.add(course.getName(), playerId, Math.max(0L, nanos));
+    }
 
-                // Persist per-course run counts
-                try {
-                    // Reuse existing batching executor if desired, but this is already async and within a transaction
-                    try (PreparedStatement p1 = conn.prepareStatement(
-                            "INSERT INTO parkour_runs(course, player, runs) VALUES(?,?,1) ON CONFLICT(course, player) DO UPDATE SET runs = runs + 1")) {
-                        p1.setString(1, course.getName());
-                        p1.setString(2, playerId.toString());
-                        p1.executeUpdate();
+    private void writeRunBatch(List<RunWriteQueue.PendingRun> batch) throws SQLException {
+        long started = System.nanoTime();
+        Set<RunWriteQueue.PendingRun> firstCompletions = Collections.newSetFromMap(new IdentityHashMap<>());
+        try (Connection conn = db.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement chk = conn.prepareStatement("SELECT 1 FROM times WHERE parkour_id=? AND uuid=? LIMIT 1");
+                 PreparedStatement up = conn.prepareStatement(
+                         "INSERT INTO times(parkour_id, uuid, best_nanos, last_updated) VALUES(?,?,?,strftime('%s','now')) " +
+                                 "ON CONFLICT(parkour_id, uuid) DO UPDATE SET best_nanos = MIN(times.best_nanos, excluded.best_nanos), last_updated = excluded.last_updated");
+                 // Global stats (total runs always +n, completed_courses +1 only on first completion for this course)
+                 PreparedStatement sup = conn.prepareStatement(
+                         "INSERT INTO parkour_stats(uuid, total_runs, completed_courses, last_run) VALUES(?,?,?,strftime('%s','now')) " +
+                                 "ON CONFLICT(uuid) DO UPDATE SET total_runs = parkour_stats.total_runs + excluded.total_runs, completed_courses = parkour_stats.completed_courses + excluded.completed_courses, last_run = excluded.last_run");
+                 PreparedStatement p1 = conn.prepareStatement(
+                         "INSERT INTO parkour_runs(parkour_id, player, runs) VALUES(?,?,?) ON CONFLICT(parkour_id, player) DO UPDATE SET runs = runs + excluded.runs");
+                 PreparedStatement p2 = conn.prepareStatement(
+                         "INSERT INTO parkour_run_totals(parkour_id, total_runs) VALUES(?,?) ON CONFLICT(parkour_id) DO UPDATE SET total_runs = total_runs + excluded.total_runs")) {
+                Map<Integer, Integer> courseTotals = new LinkedHashMap<>();
+                for (RunWriteQueue.PendingRun run : batch) {
+                    // Courses never saved (or deleted meanwhile) have no row to reference
+                    Integer courseId = getCourseId(conn, run.course);
+                    if (courseId == null) {
+                        plugin.getLogger().warning("Dropping queued run for unknown course: " + run);
+                        continue;
                     }
-                    try (PreparedStatement p2 = conn.prepareStatement(
-                            "INSERT INTO parkour_run_totals(course, total_runs) VALUES(?,1) ON CONFLICT(course) DO UPDATE SET total_runs = total_runs + 1")) {
-                        p2.setString(1, course.getName());
-                        p2.executeUpdate();
+                    byte[] player = UuidBytes.toBytes(run.player);
+                    if (run.timedRuns > 0) {
+                        boolean hadBefore;
+                        chk.setInt(1, courseId);
+                        chk.setBytes(2, player);
+                        try (ResultSet rs = chk.executeQuery()) { hadBefore = rs.next(); }
+
+                        up.setInt(1, courseId);
+                        up.setBytes(2, player);
+                        up.setLong(3, run.bestNanos);
+                        up.addBatch();
+
+                        sup.setBytes(1, player);
+                        sup.setInt(2, run.timedRuns);
+                        sup.setInt(3, hadBefore ? 0 : 1);
+                        sup.addBatch();
+                        if (!hadBefore) firstCompletions.add(run);
                     }
-                } catch (SQLException ignored) {}
-
+                    p1.setInt(1, courseId);
+                    p1.setBytes(2, player);
+                    p1.setInt(3, run.runs);
+                    p1.addBatch();
+                    courseTotals.merge(courseId, run.runs, Integer::sum);
+                }
+                for (Map.Entry<Integer, Integer> e : courseTotals.entrySet()) {
+                    p2.setInt(1, e.getKey());
+                    p2.setInt(2, e.getValue());
+                    p2.addBatch();
+                }
+                up.executeBatch();
+                sup.executeBatch();
+                p1.executeBatch();
+                p2.executeBatch();
                 conn.commit();
-                // Update in-memory stats caches
-                int[] current = statsCache.getOrDefault(playerId, new int[]{0,0});
-                int newTotal = current[0] + 1;
-                int newCompleted = current[1] + (hadBefore ? 0 : 1);
-                statsCache.put(playerId, new int[]{ newTotal, newCompleted });
-                globalTotalRuns.incrementAndGet();
             } catch (SQLException e) {
-                plugin.getLogger().warning("Failed to persist run: " + e.getMessage());
+                try { conn.rollback(); } catch (SQLException ignored) {}
+                throw e;
             }
-        });
+        }
+        // Update in-memory stats caches only once the batch is committed
+        long timedTotal = 0L;
+        for (RunWriteQueue.PendingRun run : batch) {
+            if (run.timedRuns <= 0) continue;
+            timedTotal += run.timedRuns;
+            boolean first = firstCompletions.contains(run);
+            statsCache.compute(run.player, (k, cur) -> {
+                int[] base = cur != null ? cur : new int[]{0, 0};
+                return new int[]{ base[0] + run.timedRuns, base[1] + (first ? 1 : 0) };
+            });
+        }
+        globalTotalRuns.addAndGet(timedTotal);
+        try {
+            if (plugin.getConfigManager().debugEnabled()) {
+                plugin.getLogger().info("Flushed " + batch.size() + " queued run(s) in " + ((System.nanoTime() - started) / 1_000_000L) + " ms.");
+            }
+        } catch (Throwable ignored) {}
     }
 
     public void deleteBestTimeAsync(String courseName, UUID playerId, java.util.function.Consumer<Boolean> callback) {
@@ -721,7 +920,7 @@ public class SqliteParkourStorage {
                 else {
                     try (PreparedStatement ps = conn.prepareStatement("DELETE FROM times WHERE parkour_id=? AND uuid=?")) {
                         ps.setInt(1, id);
-                        ps.setString(2, playerId.toString());
+                        ps.setBytes(2, UuidBytes.toBytes(playerId));
                         ps.executeUpdate();
                     }
                 }
@@ -736,26 +935,18 @@ public class SqliteParkourStorage {
 
     public void deleteCourseByNameAsync(String courseName, java.util.function.Consumer<Boolean> callback) {
         if (courseName == null || courseName.isBlank()) { if (callback != null) callback.accept(false); return; }
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        // Ordered after the course's queued writes so they cannot bring the row back
+        courseWriteQueue.submit(() -> {
             boolean ok = true;
             try (Connection conn = db.getConnection()) {
                 conn.setAutoCommit(false);
-                // Delete auxiliary run counters first (no FK)
-                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM parkour_runs WHERE course=?")) {
-                    ps.setString(1, courseName);
-                    ps.executeUpdate();
-                } catch (SQLException ignored) {}
-                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM parkour_run_totals WHERE course=?")) {
-                    ps.setString(1, courseName);
-                    ps.executeUpdate();
-                } catch (SQLException ignored) {}
-
-                // Delete main course row (cascades to creators/checkpoints/times/ratings)
+                // Delete main course row (cascades to creators/checkpoints/times/ratings/run counters)
                 try (PreparedStatement ps = conn.prepareStatement("DELETE FROM parkours WHERE name=?")) {
                     ps.setString(1, courseName);
                     ps.executeUpdate();
                 }
                 conn.commit();
+                courseIds.remove(courseName);
             } catch (SQLException e) {
                 ok = false;
                 plugin.getLogger().warning("Failed to delete course '" + courseName + "': " + e.getMessage());
@@ -768,7 +959,7 @@ public class SqliteParkourStorage {
     public void listCourseNamesAsync(java.util.function.Consumer<java.util.List<String>> callback) {
         org.bukkit.Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             java.util.List<String> names = new java.util.ArrayList<>();
-            try (java.sql.Connection conn = db.getConnection();
+            try (java.sql.Connection conn = db.getReadConnection();
                  java.sql.PreparedStatement ps = conn.prepareStatement("SELECT name FROM parkours ORDER BY name COLLATE NOCASE");
                  java.sql.ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -784,38 +975,52 @@ public class SqliteParkourStorage {
 
     public void migrateCourseRunCountersAsync(String oldName, String newName, java.util.function.Consumer<Boolean> callback) {
         if (oldName == null || newName == null || oldName.equalsIgnoreCase(newName)) { if (callback != null) callback.accept(false); return; }
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        // The new course's row is written by the course writer; queue behind it
+        courseWriteQueue.submit(() -> {
             boolean ok = true;
-            try (Connection conn = db.getConnection()) {
-                conn.setAutoCommit(false);
-                // Merge totals
-                try (PreparedStatement ps = conn.prepareStatement(
-                        "INSERT INTO parkour_run_totals(course, total_runs) " +
-                                "SELECT ?, total_runs FROM parkour_run_totals WHERE course=? " +
-                                "ON CONFLICT(course) DO UPDATE SET total_runs = parkour_run_totals.total_runs + excluded.total_runs")) {
-                    ps.setString(1, newName);
-                    ps.setString(2, oldName);
-                    ps.executeUpdate();
-                }
-                // Merge per-player
-                try (PreparedStatement ps = conn.prepareStatement(
-                        "INSERT INTO parkour_runs(course, player, runs) " +
-                                "SELECT ?, player, runs FROM parkour_runs WHERE course=? " +
-                                "ON CONFLICT(course, player) DO UPDATE SET runs = parkour_runs.runs + excluded.runs")) {
-                    ps.setString(1, newName);
-                    ps.setString(2, oldName);
-                    ps.executeUpdate();
+            try {
+                try (Connection conn = db.getReadConnection()) {
+                    if (getCourseId(conn, newName) == null) throw new SQLException("course '" + newName + "' is not saved");
                 }
-                // Delete old counters
-                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM parkour_run_totals WHERE course=?")) {
-                    ps.setString(1, oldName);
-                    ps.executeUpdate();
-                }
-                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM parkour_runs WHERE course=?")) {
-                    ps.setString(1, oldName);
-                    ps.executeUpdate();
+                // Queued runs follow the new name. A batch already taken under the old name is written (to the old
+                // row) before the merge; wait for it without holding the writer connection the run writer needs
+                runWriteQueue.rename(oldName, newName);
+                if (!runWriteQueue.flushAndWait(5000L)) throw new SQLException("timed out waiting for queued runs to be written");
+                try (Connection conn = db.getConnection()) {
+                    Integer oldId = getCourseId(conn, oldName);
+                    Integer newId = getCourseId(conn, newName);
+                    if (oldId != null) {
+                        conn.setAutoCommit(false);
+                        // Merge totals
+                        try (PreparedStatement ps = conn.prepareStatement(
+                                "INSERT INTO parkour_run_totals(parkour_id, total_runs) " +
+                                        "SELECT ?, total_runs FROM parkour_run_totals WHERE parkour_id=? " +
+                                        "ON CONFLICT(parkour_id) DO UPDATE SET total_runs = parkour_run_totals.total_runs + excluded.total_runs")) {
+                            ps.setInt(1, newId);
+                            ps.setInt(2, oldId);
+                            ps.executeUpdate();
+                        }
+                        // Merge per-player
+                        try (PreparedStatement ps = conn.prepareStatement(
+                                "INSERT INTO parkour_runs(parkour_id, player, runs) " +
+                                        "SELECT ?, player, runs FROM parkour_runs WHERE parkour_id=? " +
+                                        "ON CONFLICT(parkour_id, player) DO UPDATE SET runs = parkour_runs.runs + excluded.runs")) {
+                            ps.setInt(1, newId);
+                            ps.setInt(2, oldId);
+                            ps.executeUpdate();
+                        }
+                        // Delete old counters
+                        try (PreparedStatement ps = conn.prepareStatement("DELETE FROM parkour_run_totals WHERE parkour_id=?")) {
+                            ps.setInt(1, oldId);
+                            ps.executeUpdate();
+                        }
+                        try (PreparedStatement ps = conn.prepareStatement("DELETE FROM parkour_runs WHERE parkour_id=?")) {
+                            ps.setInt(1, oldId);
+                            ps.executeUpdate();
+                        }
+                        conn.commit();
+                    }
                 }
-                conn.commit();
             } catch (SQLException e) {
                 ok = false;
                 plugin.getLogger().warning("Failed to migrate run counters from '" + oldName + "' to '" + newName + "': " + e.getMessage());
@@ -842,9 +1047,9 @@ public class SqliteParkourStorage {
         if (uuid == null) { if (callback != null) callback.accept(new int[]{0,0}); return; }
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             int total = 0, completed = 0;
-            try (Connection conn = db.getConnection();
+            try (Connection conn = db.getReadConnection();
                  PreparedStatement ps = conn.prepareStatement("SELECT total_runs, completed_courses FROM parkour_stats WHERE uuid=?")) {
-                ps.setString(1, uuid.toString());
+                ps.setBytes(1, UuidBytes.toBytes(uuid));
                 try (ResultSet rs = ps.executeQuery()) {
                     if (rs.next()) {
                         total = Math.max(0, rs.getInt(1));
@@ -860,6 +1065,47 @@ public class SqliteParkourStorage {
         });
     }
 
+    /* =========================================================
+     *                      PLAYER NAMES
+     * ========================================================= */
+    /**
+     * Blocking lookup of the last stored name; call off the main thread.
+     */
+    public String loadPlayerName(UUID uuid) throws SQLException {
+        try (Connection conn = db.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT name FROM player_names WHERE uuid=?")) {
+            ps.setBytes(1, UuidBytes.toBytes(uuid));
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    /**
+     * Blocking upsert; call off the main thread.
+     */
+    public void savePlayerName(UUID uuid, String name) throws SQLException {
+        try (Connection conn = db.getWriteConnection();
+             PreparedStatement ps = conn.prepareStatement("INSERT INTO player_names(uuid, name, updated_at) VALUES(?,?,?) " +
+                     "ON CONFLICT(uuid) DO UPDATE SET name=excluded.name, updated_at=excluded.updated_at")) {
+            ps.setBytes(1, UuidBytes.toBytes(uuid));
+            ps.setString(2, name);
+            ps.setLong(3, System.currentTimeMillis());
+            ps.executeUpdate();
+        }
+    }
+
+    public void savePlayerNameAsync(UUID uuid, String name) {
+        if (uuid == null || name == null) return;
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                savePlayerName(uuid, name);
+            } catch (SQLException e) {
+                plugin.getLogger().warning("Failed to save player name: " + e.getMessage());
+            }
+        });
+    }
+
     /* =========================================================
      *                GLOBAL TOTAL RUNS REFRESHER
      * ========================================================= */
@@ -875,7 +1121,7 @@ public class SqliteParkourStorage {
     private void refreshGlobalTotalRunsAsync() {
         org.bukkit.Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             long sum = 0L;
-            try (Connection conn = db.getConnection();
+            try (Connection conn = db.getReadConnection();
                  PreparedStatement ps = conn.prepareStatement("SELECT COALESCE(SUM(total_runs),0) FROM parkour_stats");
                  ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) sum = rs.getLong(1);
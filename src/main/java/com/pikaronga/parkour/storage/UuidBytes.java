@@ -0,0 +1,41 @@
+package com.pikaronga.parkour.storage;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * 16-byte big-endian encoding of UUIDs, as stored in the {@code BLOB} player columns.
+ */
+final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * @return the decoded UUID, or {@code null} if {@code bytes} is not exactly 16 bytes long
+     */
+    static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) return null;
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        return new UUID(buf.getLong(), buf.getLong());
+    }
+
+    /**
+     * Encodes a legacy 36-character UUID string; {@code null} if it does not parse.
+     */
+    static byte[] fromString(String text) {
+        if (text == null) return null;
+        try {
+            return toBytes(UUID.fromString(text.trim()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
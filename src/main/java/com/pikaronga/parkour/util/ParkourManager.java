@@ -6,6 +6,7 @@ import org.bukkit.block.Block;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -15,31 +16,75 @@ import java.util.LinkedHashSet;
 public class ParkourManager {
 
     private final Map<String, ParkourCourse> courses = new HashMap<>();
+    private final PlateIndex plateIndex = new PlateIndex();
+    private final PublishedCourseIndex publishedIndex = new PublishedCourseIndex();
+    private java.util.function.Consumer<ParkourCourse> changeListener;
 
     public ParkourManager(Collection<ParkourCourse> loadedCourses) {
         if (loadedCourses != null) {
             for (ParkourCourse course : loadedCourses) {
-                courses.put(course.getName().toLowerCase(), course);
+                register(course);
             }
         }
     }
 
     public void replaceCourses(Collection<ParkourCourse> loadedCourses) {
+        for (ParkourCourse course : courses.values()) {
+            course.setPlateListener(null);
+            course.setChangeListener(null);
+        }
         courses.clear();
+        plateIndex.clear();
+        publishedIndex.clear();
         if (loadedCourses == null) {
             return;
         }
         for (ParkourCourse course : loadedCourses) {
-            courses.put(course.getName().toLowerCase(), course);
+            register(course);
         }
     }
 
+    /**
+     * Notified (main thread) whenever a registered course gets unsaved changes; courses registered with
+     * pending changes are reported right away.
+     */
+    public void setChangeListener(java.util.function.Consumer<ParkourCourse> listener) {
+        this.changeListener = listener;
+        for (ParkourCourse course : courses.values()) {
+            attach(course);
+        }
+    }
+
+    /**
+     * Published courses in browse order, kept sorted as courses are published, rated and removed.
+     */
+    public PublishedCourseIndex getPublishedIndex() {
+        return publishedIndex;
+    }
+
+    /**
+     * Read-only view; use {@link #addCourse(ParkourCourse)} / {@link #removeCourse(String)} to mutate
+     * so the plate index stays in sync.
+     */
     public Map<String, ParkourCourse> getCourses() {
-        return courses;
+        return java.util.Collections.unmodifiableMap(courses);
     }
 
     public ParkourCourse getOrCreate(String name) {
-        return courses.computeIfAbsent(name.toLowerCase(), key -> new ParkourCourse(name));
+        ParkourCourse existing = courses.get(name.toLowerCase());
+        if (existing != null) {
+            return existing;
+        }
+        ParkourCourse created = new ParkourCourse(name);
+        register(created);
+        return created;
+    }
+
+    public void addCourse(ParkourCourse course) {
+        if (course == null) {
+            return;
+        }
+        register(course);
     }
 
     public ParkourCourse getCourse(String name) {
@@ -47,36 +92,92 @@ public class ParkourManager {
     }
 
     public Optional<ParkourCourse> findCourseByStart(Block block) {
-        return courses.values().stream()
-                .filter(course -> course.getStartPlate() != null && LocationUtil.isSameBlock(course.getStartPlate(), block.getLocation()))
-                .findFirst();
+        for (PlateIndex.Entry entry : getPlatesAt(block)) {
+            if (entry.role() == PlateIndex.Role.START) {
+                return Optional.of(entry.course());
+            }
+        }
+        return Optional.empty();
     }
 
     public Optional<ParkourCourse> findCourseByFinish(Block block) {
-        return courses.values().stream()
-                .filter(course -> course.getFinishPlate() != null && LocationUtil.isSameBlock(course.getFinishPlate(), block.getLocation()))
-                .findFirst();
+        for (PlateIndex.Entry entry : getPlatesAt(block)) {
+            if (entry.role() == PlateIndex.Role.FINISH) {
+                return Optional.of(entry.course());
+            }
+        }
+        return Optional.empty();
     }
 
     public Optional<CheckpointMatch> findCheckpoint(Block block) {
-        for (ParkourCourse course : courses.values()) {
-            for (Checkpoint checkpoint : course.getCheckpoints()) {
-                if (LocationUtil.isSameBlock(checkpoint.plateLocation(), block.getLocation())) {
-                    return Optional.of(new CheckpointMatch(course, checkpoint));
-                }
+        for (PlateIndex.Entry entry : getPlatesAt(block)) {
+            if (entry.role() == PlateIndex.Role.CHECKPOINT) {
+                return Optional.of(new CheckpointMatch(entry.course(), entry.checkpoint()));
             }
         }
         return Optional.empty();
     }
 
+    /**
+     * Every plate (any course, any role) registered on the given block, resolved with a single index probe.
+     */
+    public List<PlateIndex.Entry> getPlatesAt(Block block) {
+        if (block == null) {
+            return java.util.Collections.emptyList();
+        }
+        return plateIndex.lookup(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Allocation-free pre-check: false guarantees there is no plate anywhere in the chunk containing (blockX, blockZ).
+     */
+    public boolean mayHavePlatesNear(int blockX, int blockZ) {
+        return plateIndex.mayContainPlates(blockX >> 4, blockZ >> 4);
+    }
+
     public void removeCourse(String name) {
-        courses.remove(name.toLowerCase());
+        ParkourCourse removed = courses.remove(name.toLowerCase());
+        if (removed != null) {
+            removed.setPlateListener(null);
+            removed.setChangeListener(null);
+            plateIndex.remove(removed);
+            publishedIndex.remove(removed);
+        }
     }
 
     public Set<String> getCourseNames() {
         return courses.values().stream().map(ParkourCourse::getName).collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    private void register(ParkourCourse course) {
+        ParkourCourse previous = courses.put(course.getName().toLowerCase(), course);
+        if (previous != null && previous != course) {
+            previous.setPlateListener(null);
+            previous.setChangeListener(null);
+            plateIndex.remove(previous);
+            publishedIndex.remove(previous);
+        }
+        course.setPlateListener(plateIndex::index);
+        plateIndex.index(course);
+        publishedIndex.update(course);
+        attach(course);
+    }
+
+    private void attach(ParkourCourse course) {
+        course.setChangeListener(this::courseChanged);
+        if (changeListener != null && course.hasUnsavedChanges()) {
+            changeListener.accept(course);
+        }
+    }
+
+    private void courseChanged(ParkourCourse course) {
+        // Publish state and ratings move the course in the browse order
+        publishedIndex.update(course);
+        if (changeListener != null) {
+            changeListener.accept(course);
+        }
+    }
+
     public record CheckpointMatch(ParkourCourse course, Checkpoint checkpoint) {
     }
 }
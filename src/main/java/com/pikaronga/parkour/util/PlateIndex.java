@@ -0,0 +1,166 @@
+package com.pikaronga.parkour.util;
+
+import com.pikaronga.parkour.course.Checkpoint;
+import com.pikaronga.parkour.course.ParkourCourse;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Block-keyed lookup of every start, checkpoint and finish plate.
+ * Keys pack a small per-world id with the block coordinates into a single long, so resolving
+ * the plate under a player is one hash probe instead of a scan over all courses.
+ */
+public class PlateIndex {
+
+    public enum Role { START, CHECKPOINT, FINISH }
+
+    public record Entry(ParkourCourse course, Role role, Checkpoint checkpoint, UUID worldId, int x, int y, int z) {
+        boolean matches(UUID world, int bx, int by, int bz) {
+            return x == bx && y == by && z == bz && worldId.equals(world);
+        }
+    }
+
+    // 8 bits world, 12 bits y, 22 bits x, 22 bits z. Out-of-range coordinates wrap and are
+    // disambiguated by the exact coordinate check in lookup().
+    private static final int Y_BITS = 12;
+    private static final int XZ_BITS = 22;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+
+    private final Map<UUID, Integer> worldIds = new HashMap<>();
+    private final Map<Long, List<Entry>> entries = new HashMap<>();
+    private final Map<ParkourCourse, List<Long>> keysByCourse = new IdentityHashMap<>();
+
+    // Hashed per-chunk presence filter (world-agnostic): a clear bit guarantees no plate in that chunk.
+    private static final int CHUNK_FILTER_BITS = 1 << 16;
+    private final BitSet chunkFilter = new BitSet(CHUNK_FILTER_BITS);
+    private boolean chunkFilterDirty = false;
+
+    public void index(ParkourCourse course) {
+        remove(course);
+        if (course == null) {
+            return;
+        }
+        List<Long> keys = new ArrayList<>();
+        put(course, Role.START, null, course.getStartPlate(), keys);
+        for (Checkpoint checkpoint : course.getCheckpoints()) {
+            if (checkpoint != null) {
+                put(course, Role.CHECKPOINT, checkpoint, checkpoint.plateLocation(), keys);
+            }
+        }
+        put(course, Role.FINISH, null, course.getFinishPlate(), keys);
+        if (!keys.isEmpty()) {
+            keysByCourse.put(course, keys);
+        }
+        chunkFilterDirty = true;
+    }
+
+    public void remove(ParkourCourse course) {
+        List<Long> keys = keysByCourse.remove(course);
+        if (keys == null) {
+            return;
+        }
+        for (Long key : keys) {
+            List<Entry> list = entries.get(key);
+            if (list == null) continue;
+            list.removeIf(e -> e.course() == course);
+            if (list.isEmpty()) {
+                entries.remove(key);
+            }
+        }
+        chunkFilterDirty = true;
+    }
+
+    public void clear() {
+        entries.clear();
+        keysByCourse.clear();
+        chunkFilter.clear();
+        chunkFilterDirty = false;
+    }
+
+    /**
+     * Cheap pre-check for the move listener: false means no plate exists in this chunk column.
+     * May return true for chunks without plates (hash collisions), never false for one that has them.
+     */
+    public boolean mayContainPlates(int chunkX, int chunkZ) {
+        if (chunkFilterDirty) {
+            rebuildChunkFilter();
+        }
+        return chunkFilter.get(chunkSlot(chunkX, chunkZ));
+    }
+
+    public List<Entry> lookup(World world, int x, int y, int z) {
+        if (world == null) {
+            return Collections.emptyList();
+        }
+        UUID uid = world.getUID();
+        Integer wid = worldIds.get(uid);
+        if (wid == null) {
+            return Collections.emptyList();
+        }
+        List<Entry> list = entries.get(pack(wid, x, y, z));
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        List<Entry> out = null;
+        for (Entry e : list) {
+            if (e.matches(uid, x, y, z)) {
+                if (out == null) out = new ArrayList<>(1);
+                out.add(e);
+            }
+        }
+        return out == null ? Collections.emptyList() : out;
+    }
+
+    public int size() {
+        int n = 0;
+        for (List<Entry> list : entries.values()) n += list.size();
+        return n;
+    }
+
+    private void put(ParkourCourse course, Role role, Checkpoint checkpoint, Location location, List<Long> keys) {
+        if (location == null || location.getWorld() == null) {
+            return;
+        }
+        UUID uid = location.getWorld().getUID();
+        int wid = worldIds.computeIfAbsent(uid, k -> worldIds.size());
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        long key = pack(wid, x, y, z);
+        entries.computeIfAbsent(key, k -> new ArrayList<>(1)).add(new Entry(course, role, checkpoint, uid, x, y, z));
+        keys.add(key);
+    }
+
+    private void rebuildChunkFilter() {
+        chunkFilter.clear();
+        for (List<Entry> list : entries.values()) {
+            for (Entry e : list) {
+                chunkFilter.set(chunkSlot(e.x() >> 4, e.z() >> 4));
+            }
+        }
+        chunkFilterDirty = false;
+    }
+
+    private static int chunkSlot(int chunkX, int chunkZ) {
+        int h = chunkX * 0x9E3779B1 ^ chunkZ * 0x85EBCA6B;
+        h ^= h >>> 16;
+        return h & (CHUNK_FILTER_BITS - 1);
+    }
+
+    static long pack(int worldId, int x, int y, int z) {
+        return ((long) (worldId & 0xFF) << (Y_BITS + 2 * XZ_BITS))
+                | ((y & Y_MASK) << (2 * XZ_BITS))
+                | ((x & XZ_MASK) << XZ_BITS)
+                | (z & XZ_MASK);
+    }
+}
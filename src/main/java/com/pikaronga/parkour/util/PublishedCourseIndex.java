@@ -0,0 +1,108 @@
+package com.pikaronga.parkour.util;
+
+import com.pikaronga.parkour.course.ParkourCourse;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Published courses kept sorted for the browse GUI, one materialized view per sort key.
+ * Each entry snapshots the values it is sorted by; when a course is published, rated, unpublished or removed
+ * only that entry is moved (binary search) in the views built so far, so reading a page never sorts.
+ * Main thread only.
+ */
+public class PublishedCourseIndex {
+
+    public enum Sort { LOOKS, DIFFICULTY, NAME, CREATED }
+
+    private record Entry(ParkourCourse course, String name, int created, double looks, double difficulty) {
+        static Entry of(ParkourCourse c) {
+            return new Entry(c, c.getName(), c.getCreatedOrder(), c.getAverageLookRating(), Math.max(0.0, c.getAverageDifficultyRating()));
+        }
+    }
+
+    // Ascending orders; course names are unique ignoring case, so every order is total
+    private static final Comparator<Entry> BY_NAME = Comparator.comparing(Entry::name, String.CASE_INSENSITIVE_ORDER);
+    private static final Map<Sort, Comparator<Entry>> ORDERS = new EnumMap<>(Sort.class);
+
+    static {
+        ORDERS.put(Sort.LOOKS, Comparator.comparingDouble(Entry::looks).thenComparing(BY_NAME));
+        ORDERS.put(Sort.DIFFICULTY, Comparator.comparingDouble(Entry::difficulty).thenComparing(BY_NAME));
+        ORDERS.put(Sort.NAME, BY_NAME);
+        ORDERS.put(Sort.CREATED, Comparator.comparingInt(Entry::created).thenComparing(BY_NAME));
+    }
+
+    private final Map<ParkourCourse, Entry> entries = new IdentityHashMap<>();
+    // Built on first use, then maintained incrementally
+    private final Map<Sort, ArrayList<Entry>> views = new EnumMap<>(Sort.class);
+
+    /**
+     * Re-reads the course's published flag and averages and moves it in every built view if they changed.
+     */
+    public void update(ParkourCourse course) {
+        Entry previous = entries.get(course);
+        Entry current = course.isPublished() ? Entry.of(course) : null;
+        if (previous == null && current == null) return;
+        if (previous != null && previous.equals(current)) return;
+        if (current == null) entries.remove(course); else entries.put(course, current);
+        for (Map.Entry<Sort, ArrayList<Entry>> view : views.entrySet()) {
+            Comparator<Entry> order = ORDERS.get(view.getKey());
+            List<Entry> list = view.getValue();
+            if (previous != null) {
+                int at = Collections.binarySearch(list, previous, order);
+                if (at >= 0) list.remove(at);
+            }
+            if (current != null) {
+                int at = Collections.binarySearch(list, current, order);
+                list.add(at < 0 ? -at - 1 : at, current);
+            }
+        }
+    }
+
+    public void remove(ParkourCourse course) {
+        Entry previous = entries.remove(course);
+        if (previous == null) return;
+        for (Map.Entry<Sort, ArrayList<Entry>> view : views.entrySet()) {
+            int at = Collections.binarySearch(view.getValue(), previous, ORDERS.get(view.getKey()));
+            if (at >= 0) view.getValue().remove(at);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        views.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Read-only view of the published courses in the given order; {@code get(i)} is O(1), so slicing a page
+     * costs the page size. Only valid until the next change to the index.
+     */
+    public List<ParkourCourse> sorted(Sort sort, boolean ascending) {
+        List<Entry> list = views.computeIfAbsent(sort, s -> {
+            ArrayList<Entry> built = new ArrayList<>(entries.values());
+            built.sort(ORDERS.get(s));
+            return built;
+        });
+        return new AbstractList<>() {
+            @Override
+            public ParkourCourse get(int index) {
+                return list.get(ascending ? index : list.size() - 1 - index).course();
+            }
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+        };
+    }
+}